@@ -32,8 +32,11 @@ ssh -i $KEY_PATH $USER@$HOST <<EOF
   docker pull ${ECR_REGISTRY_URL}/nexerp-server:latest
 
   # 4. 컨테이너 실행 (환경변수 명시적 주입으로 ReadOnly DB 이슈 방지)
+  #    관리 포트(3007, Prometheus 스크레이프)는 VPC 내부 IP 에만 연결 (보안 그룹에서 Prometheus 만 허용)
+  PRIVATE_IP=\$(hostname -I | awk '{print \$1}')
   docker run -d --name nexerp-container \
     -p 3006:3006 \
+    -p \${PRIVATE_IP}:3007:3007 \
     --env SPRING_PROFILES_ACTIVE=prod \
     --env-file /home/$USER/nexerp/.env \
     ${ECR_REGISTRY_URL}/nexerp-server:latest
@@ -0,0 +1,79 @@
+package com.nexerp.domain.analytics.benchmark;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.infra.extractor.inventory.InventoryExtractor;
+import com.nexerp.domain.analytics.infra.extractor.inventory.InventoryRow;
+import com.nexerp.domain.analytics.infra.writer.GeneralCsvWriter;
+import com.nexerp.domain.analytics.infra.writer.TypedCsvWriter;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GeneralCsvWriter(String[] 경유) vs TypedCsvWriter(바이트 버퍼 직접 인코딩) 비교
+ * 결과는 행 단위(ops = rows)로 보고되며, gc 프로파일러의 gc.alloc.rate.norm 이 행당 할당 바이트입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvWriterBenchmark {
+
+  private static final int ROWS = 100_000;
+
+  private final GeneralCsvWriter generalCsvWriter = new GeneralCsvWriter();
+  private final TypedCsvWriter typedCsvWriter = new TypedCsvWriter();
+
+  private List<ExportColumn> columns;
+  private String[] header;
+  private List<InventoryRow> rows;
+  private LocalDate exportDate;
+
+  @Setup
+  public void setUp() {
+    InventoryExtractor extractor = new InventoryExtractor(null, null);
+    columns = extractor.columns();
+    header = extractor.header();
+    exportDate = LocalDate.of(2026, 1, 5);
+
+    rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      LocalDate createdAt = exportDate.minusDays(i % 365);
+      rows.add(new InventoryRow(
+        i,
+        i % 1_000,
+        createdAt,
+        i % 3 == 0 ? "COMPLETED" : "IN_PROGRESS",
+        i % 3 == 0 ? createdAt.plusDays(3) : null));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long generalCsvWriter() {
+    return generalCsvWriter.write(OutputStream.nullOutputStream(), header,
+      rows.stream().map(row -> row.toCsvArray(exportDate)));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long typedCsvWriter() {
+    return typedCsvWriter.write(OutputStream.nullOutputStream(), columns, exportDate,
+      rows.stream());
+  }
+}
@@ -0,0 +1,130 @@
+package com.nexerp.domain.analytics.benchmark;
+
+import com.nexerp.domain.analytics.application.AnalyticsExportOrchestrator;
+import com.nexerp.domain.analytics.application.AnalyticsExportOrchestrator.ExportResult;
+import com.nexerp.domain.analytics.benchmark.support.BenchmarkExportPipeline;
+import com.nexerp.domain.analytics.benchmark.support.DiscardingS3Client;
+import com.nexerp.domain.analytics.benchmark.support.H2ExportDataset;
+import com.nexerp.domain.analytics.benchmark.support.LatencyDataSource;
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드 executor 로 전체 내보내기 시간/메모리를 비교합니다.
+ * - fanOut: 6개 테이블 합산 동시 작업 수 (6 = 테이블당 1개, 60 / 600 = 테이블당 10 / 100 파티션)
+ * - 복제본 연결(replicaLatencyMs) / S3 요청(s3LatencyMs) 마다 지연을 넣어 블로킹 대기가 지배적인 상황을 흉내냄
+ * - ms/op: 전체 내보내기 한 번의 시간, gc.alloc.rate.norm: 한 번에 할당한 메모리(가상 스레드 스택 포함)
+ * - platformThreads: 반복 동안 최대 플랫폼 스레드 수 (가상 스레드는 포함되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ExecutorModeBenchmark {
+
+  @Param({"60000"})
+  private int rows;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private String threadMode;
+
+  @Param({"6", "60", "600"})
+  private int fanOut;
+
+  @Param({"5"})
+  private long replicaLatencyMs;
+
+  @Param({"20"})
+  private long s3LatencyMs;
+
+  private final LocalDate exportDate = LocalDate.of(2026, 1, 5);
+
+  private H2ExportDataset dataset;
+  private Path localDir;
+  private BenchmarkExportPipeline pipelineFixture;
+  private AnalyticsExportOrchestrator orchestrator;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ThreadCounter {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    public long platformThreads;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void record() {
+      platformThreads = threads.getPeakThreadCount();
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    dataset = new H2ExportDataset("executor_bench_" + rows, rows);
+    localDir = Files.createTempDirectory("analytics-executor-bench");
+
+    int partitionsPerTable = Math.max(1, fanOut / BenchmarkExportPipeline.tableCount());
+    AnalyticsExportProperties props = new Binder(new MapConfigurationPropertySource(Map.of(
+      "analytics.export.local-path", localDir.toString(),
+      "analytics.export.retention-months", "2",
+      "analytics.export.s3-bucket", "bench-bucket",
+      "analytics.export.s3-key-prefix", "exports/daily",
+      "analytics.export.pipeline", "LOCAL_STAGED",
+      "analytics.export.partition.rows-per-partition",
+      String.valueOf(Math.max(1, rows / partitionsPerTable)),
+      "analytics.export.partition.max-partitions", String.valueOf(partitionsPerTable),
+      "analytics.export.partition.concurrency", "8",
+      "analytics.export.threads.mode", threadMode,
+      "analytics.export.threads.replica-permits", "16"
+    ))).bind("analytics.export", AnalyticsExportProperties.class).get();
+
+    pipelineFixture = new BenchmarkExportPipeline(props,
+      new LatencyDataSource(dataset.dataSource(), replicaLatencyMs),
+      new DiscardingS3Client(s3LatencyMs));
+    orchestrator = pipelineFixture.orchestrator();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    pipelineFixture.close();
+    dataset.close();
+    try (var files = Files.walk(localDir)) {
+      files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public Map<ExportTable, ExportResult> exportAll(ThreadCounter counter) {
+    return orchestrator.exportAll(exportDate);
+  }
+}
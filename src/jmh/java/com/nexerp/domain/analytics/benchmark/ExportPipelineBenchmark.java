@@ -0,0 +1,112 @@
+package com.nexerp.domain.analytics.benchmark;
+
+import com.nexerp.domain.analytics.application.AnalyticsExportOrchestrator;
+import com.nexerp.domain.analytics.application.AnalyticsExportOrchestrator.ExportResult;
+import com.nexerp.domain.analytics.benchmark.support.BenchmarkExportPipeline;
+import com.nexerp.domain.analytics.benchmark.support.DiscardingS3Client;
+import com.nexerp.domain.analytics.benchmark.support.H2ExportDataset;
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * 전체 내보내기(6개 테이블 추출 -> 파일 작성 -> S3 업로드/커밋) 를 H2 메모리 DB 와 네트워크 없는 S3 로 측정합니다.
+ * - ops/s: 전체 내보내기 횟수, rows: 초당 내보낸 행 수 (6개 테이블 합)
+ * - 데이터 크기: -PjmhRows=10000,1000000,10000000 (테이블당 행 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ExportPipelineBenchmark {
+
+  @Param({"10000", "1000000"})
+  private int rows;
+
+  @Param({"LOCAL_STAGED", "DIRECT_S3"})
+  private String pipeline;
+
+  @Param({"CSV", "PARQUET"})
+  private String format;
+
+  // CSV 스트리밍 압축 (PARQUET 는 자체 압축이라 무시됨, -p compression=NONE 으로 줄일 수 있음)
+  @Param({"NONE", "GZIP", "ZSTD"})
+  private String compression;
+
+  private final LocalDate exportDate = LocalDate.of(2026, 1, 5);
+
+  private H2ExportDataset dataset;
+  private Path localDir;
+  private BenchmarkExportPipeline pipelineFixture;
+  private AnalyticsExportOrchestrator orchestrator;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class RowCounter {
+
+    public long rows;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      rows = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    dataset = new H2ExportDataset("export_bench_" + rows, rows);
+    localDir = Files.createTempDirectory("analytics-export-bench");
+
+    AnalyticsExportProperties props = new Binder(new MapConfigurationPropertySource(Map.of(
+      "analytics.export.local-path", localDir.toString(),
+      "analytics.export.retention-months", "2",
+      "analytics.export.s3-bucket", "bench-bucket",
+      "analytics.export.s3-key-prefix", "exports/daily",
+      "analytics.export.pipeline", pipeline,
+      "analytics.export.format.default-format", format,
+      "analytics.export.format.default-compression", compression
+    ))).bind("analytics.export", AnalyticsExportProperties.class).get();
+
+    pipelineFixture = new BenchmarkExportPipeline(props, dataset.dataSource(),
+      new DiscardingS3Client());
+    orchestrator = pipelineFixture.orchestrator();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    pipelineFixture.close();
+    dataset.close();
+    try (var files = Files.walk(localDir)) {
+      files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public Map<ExportTable, ExportResult> exportAll(RowCounter counter) {
+    Map<ExportTable, ExportResult> results = orchestrator.exportAll(exportDate);
+    counter.rows += results.values().stream().mapToLong(ExportResult::rowCount).sum();
+    return results;
+  }
+}
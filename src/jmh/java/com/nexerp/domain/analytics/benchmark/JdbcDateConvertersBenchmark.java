@@ -0,0 +1,46 @@
+package com.nexerp.domain.analytics.benchmark;
+
+import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 추출기가 컬럼마다 호출하는 JDBC 날짜 변환 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcDateConvertersBenchmark {
+
+  private final Timestamp timestamp = Timestamp.valueOf("2026-01-05 09:30:00");
+  private final Date date = Date.valueOf("2026-01-05");
+
+  @Benchmark
+  public LocalDate fromTimestamp() {
+    return JdbcDateConverters.toLocalDate(timestamp);
+  }
+
+  @Benchmark
+  public LocalDate fromDate() {
+    return JdbcDateConverters.toLocalDate(date);
+  }
+
+  @Benchmark
+  public LocalDate fromNullTimestamp() {
+    return JdbcDateConverters.toLocalDate((Timestamp) null);
+  }
+}
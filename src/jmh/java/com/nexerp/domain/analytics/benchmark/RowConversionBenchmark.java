@@ -0,0 +1,76 @@
+package com.nexerp.domain.analytics.benchmark;
+
+import com.nexerp.domain.analytics.infra.extractor.inventory.InventoryRow;
+import com.nexerp.domain.analytics.infra.extractor.inventoryitem.InventoryItemRow;
+import com.nexerp.domain.analytics.infra.extractor.item.ItemRow;
+import com.nexerp.domain.analytics.infra.extractor.logistics.LogisticsRow;
+import com.nexerp.domain.analytics.infra.extractor.logisticsitem.LogisticsItemRow;
+import com.nexerp.domain.analytics.infra.extractor.project.ProjectRow;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * *Row.toCsvArray 변환 비용 (행 하나당, gc.alloc.rate.norm = 행당 할당 바이트)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowConversionBenchmark {
+
+  private final LocalDate exportDate = LocalDate.of(2026, 1, 5);
+  private final LocalDate createdAt = LocalDate.of(2025, 12, 1);
+
+  private final ProjectRow projectRow = new ProjectRow(
+    123_456L, 42L, "IN_PROGRESS", createdAt, null, createdAt.plusDays(30));
+  private final InventoryRow inventoryRow = new InventoryRow(
+    123_456L, 789L, createdAt, "COMPLETED", createdAt.plusDays(3));
+  private final InventoryItemRow inventoryItemRow = new InventoryItemRow(
+    123_456L, 4_321L, 789L);
+  private final LogisticsRow logisticsRow = new LogisticsRow(
+    123_456L, 789L, createdAt, "REQUESTED", null);
+  private final LogisticsItemRow logisticsItemRow = new LogisticsItemRow(
+    123_456L, 4_321L, 789L, 17L);
+  private final ItemRow itemRow = new ItemRow(4_321L, 1_500L, null);
+
+  @Benchmark
+  public String[] project() {
+    return projectRow.toCsvArray(exportDate);
+  }
+
+  @Benchmark
+  public String[] inventory() {
+    return inventoryRow.toCsvArray(exportDate);
+  }
+
+  @Benchmark
+  public String[] inventoryItem() {
+    return inventoryItemRow.toCsvArray(exportDate);
+  }
+
+  @Benchmark
+  public String[] logistics() {
+    return logisticsRow.toCsvArray(exportDate);
+  }
+
+  @Benchmark
+  public String[] logisticsItem() {
+    return logisticsItemRow.toCsvArray(exportDate);
+  }
+
+  @Benchmark
+  public String[] item() {
+    return itemRow.toCsvArray(exportDate);
+  }
+}
@@ -0,0 +1,148 @@
+package com.nexerp.domain.analytics.benchmark.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexerp.domain.analytics.application.AnalyticsExportOrchestrator;
+import com.nexerp.domain.analytics.application.CompanyPartitionedExportWriter;
+import com.nexerp.domain.analytics.application.ExportPlanner;
+import com.nexerp.domain.analytics.application.PartitionedExportWriter;
+import com.nexerp.domain.analytics.config.AnalyticsExportAsyncConfig;
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportRunEntry;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.infra.extractor.ReplicaThrottle;
+import com.nexerp.domain.analytics.infra.extractor.inventory.InventoryExtractor;
+import com.nexerp.domain.analytics.infra.extractor.inventoryitem.InventoryItemExtractor;
+import com.nexerp.domain.analytics.infra.extractor.item.ItemExtractor;
+import com.nexerp.domain.analytics.infra.extractor.logistics.LogisticsExtractor;
+import com.nexerp.domain.analytics.infra.extractor.logisticsitem.LogisticsItemExtractor;
+import com.nexerp.domain.analytics.infra.extractor.project.ProjectExtractor;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
+import com.nexerp.domain.analytics.infra.storage.LocalTmpStorage;
+import com.nexerp.domain.analytics.infra.storage.S3Storage;
+import com.nexerp.domain.analytics.infra.writer.ParquetRecordWriter;
+import com.nexerp.domain.analytics.infra.writer.TypedCsvWriter;
+import com.nexerp.domain.analytics.port.ExportRunPort;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import com.nexerp.domain.analytics.port.WatermarkPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 벤치마크용 내보내기 조립 (Spring 컨텍스트 없이 AnalyticsExportOrchestrator 와 executor 생성)
+ * 워터마크/실행 기록은 저장하지 않아 매 호출이 같은 FULL 내보내기가 됩니다.
+ */
+public class BenchmarkExportPipeline implements AutoCloseable {
+
+  // 내보내는 테이블의 extractor (선택 팩트 테이블 제외)
+  private static final List<BiFunction<JdbcTemplate, CursorQuery, ExtractorPort>> EXTRACTORS =
+    List.of(
+      ProjectExtractor::new,
+      InventoryExtractor::new,
+      InventoryItemExtractor::new,
+      LogisticsExtractor::new,
+      LogisticsItemExtractor::new,
+      ItemExtractor::new);
+
+  private final List<Executor> executors;
+  private final AnalyticsExportOrchestrator orchestrator;
+
+  public BenchmarkExportPipeline(AnalyticsExportProperties props, DataSource dataSource,
+    S3Client s3Client) {
+    AnalyticsExportAsyncConfig asyncConfig = new AnalyticsExportAsyncConfig();
+    Executor exportExecutor = asyncConfig.analyticsExportExecutor(props);
+    Executor partUploadExecutor = asyncConfig.s3PartUploadExecutor(props);
+    Executor fileUploadExecutor = asyncConfig.s3FileUploadExecutor(props);
+    Executor partitionExecutor = asyncConfig.analyticsPartitionExecutor(props);
+    executors = List.of(exportExecutor, partUploadExecutor, fileUploadExecutor,
+      partitionExecutor);
+    LocalTmpStorage storage = new LocalTmpStorage(props);
+
+    // 메트릭은 메모리에만 기록 (Prometheus 없음)
+    AnalyticsExportMetrics metrics = new AnalyticsExportMetrics(new SimpleMeterRegistry(),
+      ObservationRegistry.NOOP);
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    // H2 는 복제본이 아니므로 상태는 항상 확인 불가 (속도 제한 없음)
+    CursorQuery cursorQuery = new CursorQuery(jdbc, props, metrics,
+      new ReplicaThrottle(ReplicaHealth::unknown, metrics, props));
+    List<ExtractorPort> extractors = EXTRACTORS.stream()
+      .map(factory -> factory.apply(jdbc, cursorQuery))
+      .toList();
+
+    // 워터마크는 저장하지 않음 (매번 같은 FULL 내보내기)
+    WatermarkPort watermarkPort = new WatermarkPort() {
+      @Override
+      public Optional<ExportWatermark> find(ExportTable table) {
+        return Optional.empty();
+      }
+
+      @Override
+      public void saveAll(Collection<ExportWatermark> watermarks) {
+      }
+    };
+    // 매 호출이 새 실행이 되도록 기록을 남기지 않음
+    ExportRunPort runPort = new ExportRunPort() {
+      @Override
+      public List<ExportRunEntry> findByDate(LocalDate date) {
+        return List.of();
+      }
+
+      @Override
+      public void save(ExportRunEntry entry) {
+      }
+
+      @Override
+      public void saveAll(Collection<ExportRunEntry> entries) {
+      }
+    };
+
+    orchestrator = new AnalyticsExportOrchestrator(
+      extractors,
+      storage,
+      new S3Storage(s3Client, props, partUploadExecutor),
+      List.of(new TypedCsvWriter(), new ParquetRecordWriter(props)),
+      exportExecutor,
+      new ExportPlanner(watermarkPort, props),
+      new PartitionedExportWriter(storage, props, partitionExecutor),
+      new CompanyPartitionedExportWriter(props),
+      watermarkPort,
+      runPort,
+      new ObjectMapper(),
+      metrics,
+      props,
+      fileUploadExecutor);
+  }
+
+  // 내보내는 테이블 수 (파이프라인을 만들기 전에 파티션 수 설정에 사용)
+  public static int tableCount() {
+    return EXTRACTORS.size();
+  }
+
+  public AnalyticsExportOrchestrator orchestrator() {
+    return orchestrator;
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (Executor executor : executors) {
+      // 플랫폼 스레드 풀은 DisposableBean, 가상 스레드 executor 는 AutoCloseable
+      if (executor instanceof DisposableBean pool) {
+        pool.destroy();
+      } else if (executor instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.nexerp.domain.analytics.benchmark.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 네트워크 없이 업로드 바이트를 읽어서 버리는 S3Client (벤치마크에서 S3 구간의 CPU/할당만 측정)
+ * 객체 크기만 기억해서 headObject/copyObject 를 흉내냅니다.
+ * latencyMs 를 주면 요청마다 그만큼 대기해 네트워크 왕복을 흉내냅니다. (블로킹 대기 비교용)
+ */
+public class DiscardingS3Client implements S3Client {
+
+  private final Map<String, Long> objectSizes = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> uploadSizes = new ConcurrentHashMap<>();
+  private final long latencyMs;
+
+  public DiscardingS3Client() {
+    this(0);
+  }
+
+  public DiscardingS3Client(long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  @Override
+  public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+    roundTrip();
+    objectSizes.put(request.key(), drain(body));
+    return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+  }
+
+  @Override
+  public CreateMultipartUploadResponse createMultipartUpload(
+    CreateMultipartUploadRequest request) {
+    roundTrip();
+    String uploadId = UUID.randomUUID().toString();
+    uploadSizes.put(uploadId, new AtomicLong());
+    return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+  }
+
+  @Override
+  public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+    roundTrip();
+    uploadSizes.get(request.uploadId()).addAndGet(drain(body));
+    return UploadPartResponse.builder().eTag(UUID.randomUUID().toString()).build();
+  }
+
+  @Override
+  public CompleteMultipartUploadResponse completeMultipartUpload(
+    CompleteMultipartUploadRequest request) {
+    roundTrip();
+    objectSizes.put(request.key(), uploadSizes.remove(request.uploadId()).get());
+    return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+  }
+
+  @Override
+  public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+    roundTrip();
+    uploadSizes.remove(request.uploadId());
+    return AbortMultipartUploadResponse.builder().build();
+  }
+
+  @Override
+  public HeadObjectResponse headObject(HeadObjectRequest request) {
+    roundTrip();
+    return HeadObjectResponse.builder()
+      .contentLength(objectSizes.getOrDefault(request.key(), 0L))
+      .build();
+  }
+
+  @Override
+  public CopyObjectResponse copyObject(CopyObjectRequest request) {
+    roundTrip();
+    objectSizes.put(request.destinationKey(),
+      objectSizes.getOrDefault(request.sourceKey(), 0L));
+    return CopyObjectResponse.builder().build();
+  }
+
+  @Override
+  public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+    roundTrip();
+    objectSizes.remove(request.key());
+    return DeleteObjectResponse.builder().build();
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+  }
+
+  private void roundTrip() {
+    if (latencyMs <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(latencyMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static long drain(RequestBody body) {
+    try (InputStream in = body.contentStreamProvider().newStream()) {
+      return in.transferTo(OutputStream.nullOutputStream());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.nexerp.domain.analytics.benchmark.support;
+
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 분석 내보내기 대상 6개 테이블을 H2(MySQL 모드) 메모리 DB 에 rows 건씩 만듭니다.
+ * 연결이 하나라도 열려 있는 동안 DB 가 유지되므로 close() 전까지 keeper 연결을 잡아둡니다.
+ */
+public class H2ExportDataset implements AutoCloseable {
+
+  private final JdbcDataSource dataSource;
+  private final Connection keeper;
+
+  public H2ExportDataset(String name, int rows) throws Exception {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL");
+    keeper = dataSource.getConnection();
+
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    jdbc.execute("""
+      CREATE TABLE project (
+        project_id BIGINT PRIMARY KEY, company_id BIGINT, project_status VARCHAR(20),
+        project_create_date TIMESTAMP, project_end_date TIMESTAMP,
+        project_expected_end_date TIMESTAMP)
+      """);
+    jdbc.execute("""
+      CREATE TABLE inventory (
+        inventory_id BIGINT PRIMARY KEY, project_id BIGINT, inventory_created_at TIMESTAMP,
+        inventory_status VARCHAR(20), inventory_completed_at TIMESTAMP)
+      """);
+    jdbc.execute("""
+      CREATE TABLE inventory_item (
+        inventory_item_id BIGINT PRIMARY KEY, item_id BIGINT, inventory_id BIGINT)
+      """);
+    jdbc.execute("""
+      CREATE TABLE logistics (
+        logistics_id BIGINT PRIMARY KEY, project_id BIGINT, logistic_created_at DATE,
+        logistics_status VARCHAR(20), logistics_completed_at TIMESTAMP)
+      """);
+    jdbc.execute("""
+      CREATE TABLE logistics_item (
+        logistics_item_id BIGINT PRIMARY KEY, item_id BIGINT, logistics_id BIGINT,
+        logistics_processed_quantity BIGINT)
+      """);
+    jdbc.execute("""
+      CREATE TABLE item (
+        item_id BIGINT PRIMARY KEY, item_quantity BIGINT, safety_stock BIGINT,
+        company_id BIGINT)
+      """);
+
+    // SYSTEM_RANGE 로 서버 측에서 한 번에 생성 (상태값 3종 반복, 완료일은 1/3 만 존재)
+    String status = "CASE MOD(X, 3) WHEN 0 THEN 'COMPLETED' WHEN 1 THEN 'IN_PROGRESS' "
+      + "ELSE 'REQUESTED' END";
+    String createdAt = "DATEADD('DAY', -MOD(X, 365), TIMESTAMP '2026-01-05 09:00:00')";
+    String completedAt = "CASE MOD(X, 3) WHEN 0 THEN DATEADD('DAY', 3, " + createdAt
+      + ") END";
+
+    jdbc.update("INSERT INTO project SELECT X, MOD(X, 100), " + status + ", " + createdAt
+      + ", " + completedAt + ", DATEADD('DAY', 30, " + createdAt + ") FROM SYSTEM_RANGE(1, ?)",
+      rows);
+    jdbc.update("INSERT INTO inventory SELECT X, MOD(X, 1000), " + createdAt + ", " + status
+      + ", " + completedAt + " FROM SYSTEM_RANGE(1, ?)", rows);
+    jdbc.update("INSERT INTO inventory_item SELECT X, MOD(X, 5000), MOD(X, ?) + 1 "
+      + "FROM SYSTEM_RANGE(1, ?)", rows, rows);
+    jdbc.update("INSERT INTO logistics SELECT X, MOD(X, 1000), CAST(" + createdAt + " AS DATE), "
+      + status + ", " + completedAt + " FROM SYSTEM_RANGE(1, ?)", rows);
+    jdbc.update("INSERT INTO logistics_item SELECT X, MOD(X, 5000), MOD(X, ?) + 1, MOD(X, 50) "
+      + "FROM SYSTEM_RANGE(1, ?)", rows, rows);
+    jdbc.update("INSERT INTO item SELECT X, CASE WHEN MOD(X, 10) = 0 THEN NULL ELSE X END, "
+      + "MOD(X, 100), MOD(X, 100) FROM SYSTEM_RANGE(1, ?)", rows);
+  }
+
+  public DataSource dataSource() {
+    return dataSource;
+  }
+
+  @Override
+  public void close() throws Exception {
+    keeper.close();
+  }
+}
@@ -0,0 +1,33 @@
+package com.nexerp.domain.analytics.benchmark.support;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 연결을 얻을 때마다 latencyMs 만큼 대기하는 DataSource (H2 메모리 DB 에 복제본 왕복 지연을 흉내냄)
+ * 쿼리 하나가 연결 하나를 쓰므로 추출 스트림/파티션 쿼리마다 한 번씩 대기합니다.
+ */
+public class LatencyDataSource extends DelegatingDataSource {
+
+  private final long latencyMs;
+
+  public LatencyDataSource(DataSource target, long latencyMs) {
+    super(target);
+    this.latencyMs = latencyMs;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (latencyMs > 0) {
+      try {
+        Thread.sleep(latencyMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while simulating replica latency", e);
+      }
+    }
+    return super.getConnection();
+  }
+}
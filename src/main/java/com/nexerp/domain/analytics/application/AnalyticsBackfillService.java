@@ -0,0 +1,201 @@
+package com.nexerp.domain.analytics.application;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.global.common.exception.BaseException;
+import com.nexerp.global.common.exception.GlobalErrorCode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 관리자 백필: 날짜 구간의 분석 데이터를 FULL 스냅샷으로 다시 내보냅니다. (Lambda 로직 변경 후 과거 날짜 재생성)
+ * - 구간을 datesPerScan 개씩 묶어 analyticsBackfillExecutor 에서 concurrency 개 묶음까지 동시에 실행
+ * - 묶음 하나는 테이블마다 스캔 한 번으로 모든 날짜 파일을 만들고 날짜별로 커밋 (exportSnapshots)
+ * - 추출 스트림(복제본 연결)은 정기 실행과 같은 replica-permits 를 공유하므로 복제본 부하 상한은 그대로
+ * - 작업 상태는 메모리에만 보관 (재시작하면 사라지며, 날짜별 결과는 실행 기록과 커밋 마커로 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsBackfillService {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  // 조회용으로 남겨 두는 끝난 작업 수
+  private static final int MAX_FINISHED_JOBS = 20;
+
+  private final AnalyticsExportOrchestrator orchestrator;
+  private final AnalyticsExportProperties props;
+  private final @Qualifier("analyticsBackfillExecutor") Executor analyticsBackfillExecutor;
+
+  private final Map<String, BackfillJob> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * from ~ to (포함) 날짜의 백필을 시작하고 바로 작업을 반환합니다. 진행 상황은 find 로 조회
+   */
+  public synchronized BackfillJob start(LocalDate from, LocalDate to) {
+    AnalyticsExportProperties.Backfill backfill = props.backfill();
+    if (from.isAfter(to)) {
+      throw new BaseException(GlobalErrorCode.BAD_REQUEST, "from 이 to 보다 늦습니다.");
+    }
+    if (!to.isBefore(LocalDate.now(ZONE))) {
+      // 오늘 데이터는 아직 쌓이는 중 (정기 실행도 어제 날짜까지만 내보냄)
+      throw new BaseException(GlobalErrorCode.BAD_REQUEST, "어제 날짜까지만 백필할 수 있습니다.");
+    }
+    List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+    if (dates.size() > backfill.maxDays()) {
+      throw new BaseException(GlobalErrorCode.BAD_REQUEST,
+        "한 번에 최대 " + backfill.maxDays() + "일까지 백필할 수 있습니다.");
+    }
+    for (BackfillJob running : jobs.values()) {
+      if (!running.isFinished() && running.overlaps(from, to)) {
+        throw new BaseException(GlobalErrorCode.STATE_CONFLICT,
+          "같은 날짜를 백필 중인 작업이 있습니다. jobId=" + running.id());
+      }
+    }
+
+    pruneFinishedJobs();
+    BackfillJob job = new BackfillJob(UUID.randomUUID().toString(), from, to, dates);
+    jobs.put(job.id(), job);
+
+    int datesPerScan = Math.max(1, backfill.datesPerScan());
+    for (int i = 0; i < dates.size(); i += datesPerScan) {
+      List<LocalDate> group = dates.subList(i, Math.min(i + datesPerScan, dates.size()));
+      CompletableFuture.runAsync(() -> runGroup(job, group), analyticsBackfillExecutor);
+    }
+    log.info("[AnalyticsBackfill] Job start jobId={} dates={}~{} count={} datesPerScan={} "
+      + "concurrency={}", job.id(), from, to, dates.size(), datesPerScan, backfill.concurrency());
+    return job;
+  }
+
+  public Optional<BackfillJob> find(String jobId) {
+    return Optional.ofNullable(jobs.get(jobId));
+  }
+
+  private void runGroup(BackfillJob job, List<LocalDate> group) {
+    group.forEach(date -> job.update(date, DateState.RUNNING, null));
+    try {
+      orchestrator.exportSnapshots(group);
+      group.forEach(date -> job.update(date, DateState.COMMITTED, null));
+    } catch (Exception e) {
+      log.error("[AnalyticsBackfill] jobId={} dates={}~{} 실패", job.id(), group.get(0),
+        group.get(group.size() - 1), e);
+      // 커밋 단계 실패는 날짜마다 결과가 다를 수 있음
+      for (LocalDate date : group) {
+        boolean committed = orchestrator.isCommitted(date);
+        job.update(date, committed ? DateState.COMMITTED : DateState.FAILED,
+          committed ? null : String.valueOf(e.getMessage()));
+      }
+    }
+    if (job.isFinished()) {
+      log.info("[AnalyticsBackfill] Job done jobId={} status={} failedDates={}", job.id(),
+        job.status(), job.failures().keySet());
+    }
+  }
+
+  private void pruneFinishedJobs() {
+    List<BackfillJob> finished = jobs.values().stream()
+      .filter(BackfillJob::isFinished)
+      .sorted(Comparator.comparing(BackfillJob::createdAt))
+      .toList();
+    for (int i = 0; i <= finished.size() - MAX_FINISHED_JOBS; i++) {
+      jobs.remove(finished.get(i).id());
+    }
+  }
+
+  public enum JobStatus {
+    RUNNING, COMPLETED, FAILED
+  }
+
+  public enum DateState {
+    PENDING, RUNNING, COMMITTED, FAILED
+  }
+
+  /**
+   * 백필 작업 하나의 날짜별 상태 (묶음 작업 스레드들이 갱신)
+   */
+  public static final class BackfillJob {
+
+    private final String id;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Instant createdAt = Instant.now();
+    private final Map<LocalDate, DateState> states = new TreeMap<>();
+    private final Map<LocalDate, String> failures = new TreeMap<>();
+
+    BackfillJob(String id, LocalDate from, LocalDate to, List<LocalDate> dates) {
+      this.id = id;
+      this.from = from;
+      this.to = to;
+      dates.forEach(date -> states.put(date, DateState.PENDING));
+    }
+
+    public String id() {
+      return id;
+    }
+
+    public LocalDate from() {
+      return from;
+    }
+
+    public LocalDate to() {
+      return to;
+    }
+
+    public Instant createdAt() {
+      return createdAt;
+    }
+
+    public synchronized JobStatus status() {
+      if (!isFinished()) {
+        return JobStatus.RUNNING;
+      }
+      return failures.isEmpty() ? JobStatus.COMPLETED : JobStatus.FAILED;
+    }
+
+    public synchronized long count(DateState state) {
+      return states.values().stream().filter(s -> s == state).count();
+    }
+
+    public synchronized int totalDates() {
+      return states.size();
+    }
+
+    // 실패한 날짜 -> 원인
+    public synchronized Map<LocalDate, String> failures() {
+      return Collections.unmodifiableMap(new TreeMap<>(failures));
+    }
+
+    synchronized boolean isFinished() {
+      return states.values().stream()
+        .allMatch(state -> state == DateState.COMMITTED || state == DateState.FAILED);
+    }
+
+    boolean overlaps(LocalDate otherFrom, LocalDate otherTo) {
+      return !otherTo.isBefore(from) && !otherFrom.isAfter(to);
+    }
+
+    synchronized void update(LocalDate date, DateState state, String failure) {
+      states.put(date, state);
+      if (failure != null) {
+        failures.put(date, failure);
+      } else {
+        failures.remove(date);
+      }
+    }
+  }
+}
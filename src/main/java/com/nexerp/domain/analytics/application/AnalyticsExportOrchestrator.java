@@ -2,36 +2,65 @@ package com.nexerp.domain.analytics.application;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexerp.domain.analytics.application.CompanyPartitionedExportWriter.CompanyExport;
+import com.nexerp.domain.analytics.application.CompanyPartitionedExportWriter.PartOutput;
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportCommitMarker;
+import com.nexerp.domain.analytics.domain.ExportCompression;
 import com.nexerp.domain.analytics.domain.ExportFileName;
+import com.nexerp.domain.analytics.domain.ExportFormat;
+import com.nexerp.domain.analytics.domain.ExportLayout;
+import com.nexerp.domain.analytics.domain.ExportManifest;
+import com.nexerp.domain.analytics.domain.ExportMode;
+import com.nexerp.domain.analytics.domain.ExportPipeline;
+import com.nexerp.domain.analytics.domain.ExportPlan;
+import com.nexerp.domain.analytics.domain.ExportRunEntry;
+import com.nexerp.domain.analytics.domain.ExportRunState;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import com.nexerp.domain.analytics.domain.ExportedFile;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
 import com.nexerp.domain.analytics.infra.storage.LocalTmpStorage;
+import com.nexerp.domain.analytics.infra.storage.S3MultipartOutputStream;
 import com.nexerp.domain.analytics.infra.storage.S3Storage;
-import com.nexerp.domain.analytics.port.CsvWriterPort;
+import com.nexerp.domain.analytics.infra.util.BackoffRetry;
+import com.nexerp.domain.analytics.infra.util.ChecksumOutputStream;
+import com.nexerp.domain.analytics.infra.util.CompressionStreams;
+import com.nexerp.domain.analytics.port.ExportRunPort;
 import com.nexerp.domain.analytics.port.ExtractorPort;
-import com.nexerp.domain.analytics.port.StoragePort;
+import com.nexerp.domain.analytics.port.RecordWriterPort;
+import com.nexerp.domain.analytics.port.WatermarkPort;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.YearMonth;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-
-import javax.sql.DataSource;
+import org.springframework.util.StreamUtils;
 
 @Slf4j
 @Service
@@ -41,112 +70,726 @@ public class AnalyticsExportOrchestrator {
   private final List<ExtractorPort> extractors;
   private final LocalTmpStorage storage; // 구현체 구분
   private final S3Storage s3Storage;
-  private final CsvWriterPort writer;
-  private final Executor analyticsExportExecutor;
+  private final List<RecordWriterPort> writers; // 파일 형식별 writer (CSV, PARQUET)
+  private final @Qualifier("analyticsExportExecutor") Executor analyticsExportExecutor;
+  private final ExportPlanner planner;
+  private final PartitionedExportWriter partitionedWriter; // 큰 테이블은 PK 구간 분할 병렬 추출
+  private final CompanyPartitionedExportWriter companyWriter; // 회사별 분할 배치
+  private final WatermarkPort watermarkPort;
+  private final ExportRunPort runPort; // 날짜별 테이블 진행 기록 (재실행 시 이어서)
+  private final ObjectMapper objectMapper; // 매니페스트 직렬화
+  private final AnalyticsExportMetrics metrics; // 단계별 시간/처리량 (Prometheus)
+  private final AnalyticsExportProperties props;
+  private final @Qualifier("s3FileUploadExecutor") Executor s3FileUploadExecutor;
+
+  // 진행 중인 날짜 (정기 실행과 재개 실행이 같은 날짜를 동시에 내보내지 않도록)
+  private final Set<LocalDate> runningDates = ConcurrentHashMap.newKeySet();
+
+  /**
+   * [체크포인트 병렬 내보내기] 1. 테이블마다 추출 후 S3 임시 키까지 올리고 실행 기록(STAGED)을 남깁니다.
+   * 2. 한 테이블이 실패해도 다른 테이블은 계속 진행하며, 실패한 테이블의 파일만 정리합니다.
+   * 3. 모든 테이블이 STAGED 가 되면 최종 키로 커밋하고 매니페스트, 커밋 마커(_SUCCESS--날짜) 순으로 씁니다.
+   * 같은 날짜로 다시 실행하면 STAGED 테이블은 건너뛰고 실패/누락 테이블만 내보냅니다.
+   * 최종 키는 커밋 시점에만 생기고 소비자는 마커가 있는 날짜만 읽으므로 원자적 가시성은 유지됩니다.
+   * 이미 커밋된 날짜를 다시 실행하면 워터마크가 그 날짜 구간을 지났으므로 백필처럼 FULL 스냅샷으로 내보내고
+   * (워터마크는 움직이지 않음) 새 파일을 커밋하기 직전에만 이전 커밋을 내린 뒤 대체된 파일을 삭제합니다.
+   */
+  public Map<ExportTable, ExportResult> exportAll(LocalDate date) {
+    if (!runningDates.add(date)) {
+      throw new IllegalStateException("이미 내보내기 중인 날짜입니다. date=" + date);
+    }
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Map<ExportTable, ExportResult> results = runExport(date);
+      success = true;
+      return results;
+    } finally {
+      metrics.recordRun(System.nanoTime() - start, success);
+      runningDates.remove(date);
+    }
+  }
+
+  // 날짜의 모든 테이블이 커밋되었는지 (재개 스케줄러용)
+  public boolean isCommitted(LocalDate date) {
+    return isCommitted(runPort.findByDate(date));
+  }
 
+  private boolean isCommitted(List<ExportRunEntry> entries) {
+    return entries.size() >= extractors.size()
+      && entries.stream().allMatch(entry -> entry.state() == ExportRunState.COMMITTED);
+  }
 
   /**
-   * [Fail-Fast 병렬 내보내기] 1. 하나라도 실패하면 즉시 전체 작업을 중단합니다. 2. 실패 시 이미 성공하여 생성된 파일들도 모두 삭제(Cleanup)합니다.
-   * 3. 원자적 파일 생성을 위해 임시 파일(tmp)에 먼저 쓰고 성공 시 최종 위치로 이동합니다.
+   * [스냅샷 백필] 여러 날짜의 FULL 스냅샷을 한 번에 내보내고 날짜마다 커밋합니다.
+   * - DB 에는 과거 시점 데이터가 없으므로 날짜마다 현재 상태를 그 날짜로 기록한 FULL 파일이 됨
+   *   그래서 테이블마다 한 번 읽은 레코드를 날짜별 파일에 함께 씀 (날짜 N개 = 테이블당 스캔 1번)
+   * - 회사별 분할 레이아웃은 날짜마다 따로 추출
+   * - 매니페스트, 커밋 마커, 실행 기록은 정기 실행과 같고 워터마크만 움직이지 않음
+   * - 날짜를 커밋한 뒤 새 매니페스트에 없는 이전 파일(정기 실행의 DELTA 파일 등)은 삭제
+   * 하나라도 실패하면 예외를 던지며, 날짜별 성공 여부는 isCommitted 로 확인
    */
-  public Map<ExportTable, ExportResult> exportAllFailFastParallel(LocalDate date) {
+  public Map<LocalDate, Map<ExportTable, ExportResult>> exportSnapshots(List<LocalDate> dates) {
+    List<LocalDate> claimed = new ArrayList<>(dates.size());
+    try {
+      for (LocalDate date : dates) {
+        if (!runningDates.add(date)) {
+          throw new IllegalStateException("이미 내보내기 중인 날짜입니다. date=" + date);
+        }
+        claimed.add(date);
+      }
+      return runSnapshots(dates);
+    } finally {
+      claimed.forEach(runningDates::remove);
+    }
+  }
+
+  private Map<ExportTable, ExportResult> runExport(LocalDate date) {
+    boolean directToS3 = props.pipeline() == ExportPipeline.DIRECT_S3;
+
     // 파일을 저장할 폴더가 있는지 확인하고 없으면 만들기
-    storage.ensureBaseDir();
+    if (!directToS3) {
+      storage.ensureBaseDir();
+    }
 
     long allStart = System.nanoTime();
-    log.info("[AnalyticsExport] Fail-Fast Parallel Export Start");
 
+    // 1. 이전 실행에서 임시 키까지 올라간 테이블은 다시 추출하지 않음
+    List<ExportRunEntry> previous = runPort.findByDate(date);
+    // 커밋된 적 있는 날짜 (재실행이 중간에 실패해 실행 기록이 STAGED/FAILED 로 바뀌었어도 매니페스트로 확인)
+    Set<String> previousKeys = new HashSet<>(committedManifestKeys(date));
+    boolean recommit = isCommitted(previous) || !previousKeys.isEmpty();
+    if (recommit) {
+      previousKeys.addAll(fileKeys(previous.stream()
+        .filter(entry -> entry.state() == ExportRunState.COMMITTED)
+        .toList()));
+    }
+    Map<ExportTable, ExportRunEntry> staged = Collections.synchronizedMap(
+      new EnumMap<>(ExportTable.class));
+    staged.putAll(resumableEntries(previous));
+    List<ExtractorPort> pending = extractors.stream()
+      .filter(extractor -> !staged.containsKey(extractor.table()))
+      .toList();
+    log.info("[AnalyticsExport] Checkpointed Parallel Export Start date={} pipeline={} "
+        + "recommit={} resumed={} pending={}", date, props.pipeline(), recommit,
+      staged.keySet(), pending.stream().map(ExtractorPort::table).toList());
+
+    // 2. 남은 테이블 병렬 내보내기 (실패한 테이블이 다른 테이블을 멈추지 않음)
     Map<ExportTable, ExportResult> results = Collections.synchronizedMap(
       new EnumMap<>(ExportTable.class));
+    Map<ExportTable, Exception> failures = new ConcurrentHashMap<>();
+
+    List<CompletableFuture<Void>> futures = pending.stream()
+      .map(extractor -> CompletableFuture.runAsync(() -> {
+        try {
+          ExportResult result = metrics.observeTable(extractor.table(),
+            () -> exportTable(extractor, date, directToS3, recommit, staged));
+          results.put(result.table(), result);
+        } catch (Exception e) {
+          failures.put(extractor.table(), e);
+        }
+      }, analyticsExportExecutor))
+      .toList();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    if (!failures.isEmpty()) {
+      failures.forEach((table, e) ->
+        log.error("[AnalyticsExport] table={} 실패. 재실행 시 이 테이블만 다시 내보냅니다.", table, e));
+      throw new RuntimeException("분석 데이터 내보내기 실패 테이블=" + failures.keySet()
+        + " (성공한 테이블은 임시 키로 보존, 같은 날짜로 재실행하면 이어서 진행)",
+        failures.values().iterator().next());
+    }
 
-    // 작성된 파일 이름 리스트 (CopyOnWriteArrayList)
-    List<String> createdFinalFiles = new CopyOnWriteArrayList<>();
-    List<String> createdS3Keys = new CopyOnWriteArrayList<>(); // S3 롤백용 리스트 추가
+    // 이전 실행에서 재개된 테이블 결과도 포함
+    staged.values().forEach(entry -> results.putIfAbsent(entry.table(), toResult(entry)));
 
-    CompletableFuture<Void> firstFailure = new CompletableFuture<>();
-    // completeExceptionally(실패) 를 한번만 전파하기 위한 원자적 블리언
-    AtomicBoolean failureSignaled = new AtomicBoolean(false);
+    List<ExportRunEntry> entries = List.copyOf(staged.values());
+    try {
+      // 3. 임시 키 -> 최종 키 커밋, 워터마크 전진, 커밋 마커 기록
+      long commitStart = System.nanoTime();
+      if (recommit) {
+        // 새 파일을 복사하는 동안만 이전 커밋을 내림 (추출이 실패하면 기존 날짜는 계속 보임)
+        withdrawCommit(date);
+      }
+      commitRun(date, entries, !recommit);
+      metrics.recordCommit(System.nanoTime() - commitStart);
+    } catch (Exception e) {
+      log.error("[AnalyticsExport] 커밋 실패 date={}. 임시 키는 남아 있어 재실행 시 커밋만 다시 합니다.", date,
+        e);
+      throw new RuntimeException("분석 데이터 커밋 중 오류가 발생했습니다. date=" + date, e);
+    }
+    if (recommit) {
+      // FULL <-> DELTA, 형식/레이아웃 변경으로 새 매니페스트에 없는 이전 파일
+      deleteSuperseded(date, previousKeys, fileKeys(entries));
+    }
 
-    List<CompletableFuture<ExportResult>> futures = extractors.stream()
-      .map(extractor -> CompletableFuture.supplyAsync(() -> {
-        long start = System.nanoTime();
+    long allElapsedMs = NANOSECONDS.toMillis(System.nanoTime() - allStart);
+    log.info("[AnalyticsExport] 전체 테이블 수={} 총 소요 시간={}", results.size(),
+      allElapsedMs);
+    logRowCountSummary(results);
+    logUploadSummary(results);
 
-        // 수정된 원자적 파일 생성 로직 호출
-        ExportResult result = exportByExtractorAtomic(extractor, date, createdFinalFiles);
+    return results;
+  }
 
-        long elapsedMs = NANOSECONDS.toMillis(System.nanoTime() - start);
+  private Map<LocalDate, Map<ExportTable, ExportResult>> runSnapshots(List<LocalDate> dates) {
+    boolean singleScan = props.layout().type() == ExportLayout.FLAT;
+    boolean directToS3 = props.pipeline() == ExportPipeline.DIRECT_S3;
+    storage.ensureBaseDir();
 
-        // 비동기와 동기 비교를 위한 로그
-        log.info("[AnalyticsExport] table={} rows={} elapsedMs={}",
-          result.table(), result.rowCount(), elapsedMs);
+    long allStart = System.nanoTime();
 
-        return result;
+    // 1. 이전 실행이 남긴 임시 키는 다시 내보낼 것이므로 정리
+    //    (이전 커밋은 새 파일을 커밋하기 직전에만 내림, 추출이 실패해도 기존 날짜는 계속 보임)
+    Map<LocalDate, Map<ExportTable, ExportRunEntry>> staged = new ConcurrentHashMap<>();
+    // 날짜별 이전 커밋 파일 (새 FULL 파일로 대체된 DELTA 파일 등은 커밋 후 삭제)
+    Map<LocalDate, Set<String>> previousKeys = new HashMap<>();
+    for (LocalDate date : dates) {
+      List<ExportRunEntry> previous = runPort.findByDate(date);
+      previous.stream()
+        .filter(entry -> entry.state() == ExportRunState.STAGED)
+        .forEach(entry -> entry.stagedKeys().keySet().forEach(s3Storage::deleteIfExists));
+      previousKeys.put(date, fileKeys(previous.stream()
+        .filter(entry -> entry.state() == ExportRunState.COMMITTED)
+        .toList()));
+      staged.put(date, Collections.synchronizedMap(new EnumMap<>(ExportTable.class)));
+    }
+    log.info("[AnalyticsBackfill] Snapshot Export Start dates={}~{} count={} singleScan={}",
+      dates.get(0), dates.get(dates.size() - 1), dates.size(), singleScan);
 
-      }, analyticsExportExecutor).whenComplete((r, e) -> {
-        if (e != null) {
-          // 하나라도 예외 발생 시 firstFailure을 울려 race를 종료시킴
-          if (failureSignaled.compareAndSet(false, true)) {
-            firstFailure.completeExceptionally(e);
-          }
-        } else {
-          results.put(r.table(), r);
+    // 2. 테이블 병렬 (FLAT 은 테이블당 스캔 1번으로 모든 날짜 파일)
+    Map<ExportTable, Exception> failures = new ConcurrentHashMap<>();
+    List<CompletableFuture<Void>> futures = extractors.stream()
+      .map(extractor -> CompletableFuture.runAsync(() -> {
+        try {
+          metrics.observeTable(extractor.table(), () -> {
+            if (singleScan) {
+              exportSnapshotTable(extractor, dates, staged);
+            } else {
+              dates.forEach(date ->
+                exportTable(extractor, date, directToS3, true, staged.get(date)));
+            }
+            return null;
+          });
+        } catch (Exception e) {
+          failures.put(extractor.table(), e);
         }
-      }))
+      }, analyticsExportExecutor))
       .toList();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    if (!failures.isEmpty()) {
+      failures.forEach((table, e) -> log.error("[AnalyticsBackfill] table={} 실패", table, e));
+      throw new RuntimeException("스냅샷 백필 실패 테이블=" + failures.keySet() + " dates="
+        + dates.get(0) + "~" + dates.get(dates.size() - 1), failures.values().iterator().next());
+    }
 
-    // 모든 스레드가 작업을 종료 했는지 검사
-    CompletableFuture<Void> allDone = CompletableFuture.allOf(
-      futures.toArray(new CompletableFuture[0]));
+    // 3. 날짜마다 커밋 (한 날짜의 커밋 실패가 다른 날짜를 막지 않음)
+    Map<LocalDate, Map<ExportTable, ExportResult>> results = new LinkedHashMap<>();
+    List<LocalDate> commitFailures = new ArrayList<>();
+    for (LocalDate date : dates) {
+      List<ExportRunEntry> entries = List.copyOf(staged.get(date).values());
+      try {
+        long commitStart = System.nanoTime();
+        // 실행 기록이 이전 백필 실패로 덮였을 수 있으므로 내리기 전의 매니페스트도 확인
+        Set<String> superseded = new HashSet<>(previousKeys.get(date));
+        superseded.addAll(committedManifestKeys(date));
+        // 이 날짜의 새 파일을 복사하는 동안만 마커를 내림
+        withdrawCommit(date);
+        commitRun(date, entries, false);
+        metrics.recordCommit(System.nanoTime() - commitStart);
+        deleteSuperseded(date, superseded, fileKeys(entries));
 
-    // race는 전체 성공 혹은 실패를 의미
-    CompletableFuture<Object> race = CompletableFuture.anyOf(allDone, firstFailure);
+        Map<ExportTable, ExportResult> dateResults = new EnumMap<>(ExportTable.class);
+        entries.forEach(entry -> dateResults.put(entry.table(), toResult(entry)));
+        results.put(date, dateResults);
+      } catch (Exception e) {
+        log.error("[AnalyticsBackfill] 커밋 실패 date={}", date, e);
+        commitFailures.add(date);
+      }
+    }
+    if (!commitFailures.isEmpty()) {
+      throw new RuntimeException("스냅샷 백필 커밋 실패 날짜=" + commitFailures);
+    }
 
+    log.info("[AnalyticsBackfill] Snapshot Export Done dates={} tables={} elapsedMs={}",
+      dates.size(), extractors.size(), NANOSECONDS.toMillis(System.nanoTime() - allStart));
+    return results;
+  }
+
+  // 같은 날짜의 이전 실행 기록 중 STAGED 테이블 (커밋이 끝난 날짜면 없음, 처음부터 다시 내보냄)
+  private Map<ExportTable, ExportRunEntry> resumableEntries(List<ExportRunEntry> previous) {
+    Map<ExportTable, ExportRunEntry> resumable = new EnumMap<>(ExportTable.class);
+    for (ExportRunEntry entry : previous) {
+      if (entry.state() == ExportRunState.STAGED) {
+        resumable.put(entry.table(), entry);
+      }
+    }
+    return resumable;
+  }
+
+  // 다시 커밋하는 동안 소비자가 섞인 파일을 읽지 않도록 마커부터 제거
+  private void withdrawCommit(LocalDate date) {
+    s3Storage.deleteIfExists(s3Storage.resolve(new ExportCommitMarker(date).toFileName()));
+    s3Storage.deleteIfExists(s3Storage.resolve(ExportManifest.fileName(date)));
+  }
+
+  // 실행 기록의 파일 최종 키
+  private Set<String> fileKeys(List<ExportRunEntry> entries) {
+    Set<String> keys = new HashSet<>();
+    entries.forEach(entry -> entry.files().forEach(file ->
+      keys.add(s3Storage.resolve(file.fileName()))));
+    return keys;
+  }
+
+  // 날짜의 현재 매니페스트에 있는 파일 최종 키 (없거나 읽지 못하면 비어 있음)
+  private Set<String> committedManifestKeys(LocalDate date) {
+    String manifestKey = s3Storage.resolve(ExportManifest.fileName(date));
     try {
-      // 전체 성공 시 통과, 하나라도 실패 시 예외가 여기서 터짐
-      race.join(); // 1.모든 로컬 파일 생성 완료 대기
+      Set<String> keys = new HashSet<>();
+      s3Storage.getObjectIfExists(manifestKey)
+        .ifPresent(json -> readManifest(json).tables().forEach(table ->
+          table.files().forEach(file -> keys.add(s3Storage.resolve(file.fileName())))));
+      return keys;
+    } catch (IOException | RuntimeException e) {
+      log.warn("[AnalyticsExport] 이전 매니페스트 읽기 실패 manifest={}", manifestKey, e);
+      return Set.of();
+    }
+  }
 
-      log.info("[AnalyticsExport] 로컬 생성 완료. S3 업로드 및 원자적 이동 시작.");
+  private ExportManifest readManifest(byte[] json) {
+    try {
+      return objectMapper.readValue(json, ExportManifest.class);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to parse export manifest", e);
+    }
+  }
 
-      // 2. S3 업로드 (하나라도 실패 시 예외 처리)
-      uploadAllToS3(createdFinalFiles, createdS3Keys);
+  /**
+   * 다시 커밋한 날짜의 새 매니페스트에 없는 이전 파일 삭제 (예: 정기 실행의 <table>_delta--날짜)
+   * 실패해도 커밋에는 영향 없음 (새 매니페스트에 없으므로 소비자는 읽지 않음)
+   */
+  private void deleteSuperseded(LocalDate date, Set<String> previousKeys, Set<String> newKeys) {
+    List<String> superseded = previousKeys.stream()
+      .filter(key -> !newKeys.contains(key))
+      .sorted()
+      .toList();
+    if (superseded.isEmpty()) {
+      return;
+    }
+    try {
+      for (int from = 0; from < superseded.size(); from += S3Storage.MAX_DELETE_BATCH) {
+        s3Storage.deleteObjects(superseded.subList(from,
+          Math.min(from + S3Storage.MAX_DELETE_BATCH, superseded.size())));
+      }
+      log.info("[AnalyticsExport] 대체된 파일 삭제 date={} files={}", date, superseded.size());
+    } catch (IOException e) {
+      log.warn("[AnalyticsExport] 대체된 파일 삭제 실패 date={} files={}", date, superseded, e);
+    }
+  }
 
-      // 3. 성공 시 로컬 파일 삭제 (서버 용량 확보)
-      cleanupLocalFiles(createdFinalFiles);
+  /**
+   * 테이블 하나를 S3 임시 키까지 내보내고 STAGED 로 기록합니다. (snapshot 이면 워터마크와 관계없이 FULL)
+   * 실패하면 이 테이블이 만든 파일/임시 키만 정리하고 FAILED 로 기록
+   */
+  private ExportResult exportTable(ExtractorPort extractor, LocalDate date, boolean directToS3,
+    boolean snapshot, Map<ExportTable, ExportRunEntry> staged) {
+    long start = System.nanoTime();
 
-      long allElapsedMs = NANOSECONDS.toMillis(System.nanoTime() - allStart);
-      log.info("[AnalyticsExport] 전체 테이블 수={} 총 소요 시간={}", results.size(),
-        allElapsedMs);
+    // 작성된 로컬 파일 (업로드 후 삭제)
+    List<String> localFiles = new CopyOnWriteArrayList<>();
+    // 업로드 완료된 S3 임시 키 -> 최종 키 (커밋 대기)
+    Map<String, String> stagedS3Keys = new LinkedHashMap<>();
+    // 아직 완료되지 않은 멀티파트 업로드 (실패 시 abort)
+    List<S3MultipartOutputStream> openUploads = new CopyOnWriteArrayList<>();
 
-      return results;
+    try {
+      // FULL/DELTA 여부와 PK 구간 결정
+      ExportPlan plan = snapshot ? planner.snapshot(extractor, date)
+        : planner.plan(extractor, date);
+
+      ExportResult result;
+      long extractStart = System.nanoTime();
+      if (directToS3) {
+        result = exportByExtractorToS3Staged(extractor, plan, date, stagedS3Keys, openUploads);
+        // 추출/쓰기/업로드가 한 스트림으로 겹침
+        metrics.recordPhase(extractor.table(), "extract_upload", System.nanoTime() - extractStart);
+      } else {
+        result = exportByExtractorAtomic(extractor, plan, date, localFiles);
+        long uploadStart = System.nanoTime();
+        metrics.recordPhase(extractor.table(), "extract", uploadStart - extractStart);
+        result = uploadToStaged(result, stagedS3Keys, openUploads);
+        metrics.recordPhase(extractor.table(), "upload", System.nanoTime() - uploadStart);
+        // 임시 키에 올라갔으므로 로컬 파일 삭제 (서버 용량 확보)
+        cleanupLocalFiles(localFiles);
+      }
+
+      long elapsedNanos = System.nanoTime() - start;
+      long elapsedMs = NANOSECONDS.toMillis(elapsedNanos);
+      metrics.recordThroughput(result.table(), result.rowCount(),
+        result.files().stream().mapToLong(ExportedFile::bytes).sum(), elapsedNanos);
+
+      ExportRunEntry entry = new ExportRunEntry(date, result.table(), ExportRunState.STAGED,
+        result.mode(), result.rowCount(), result.watermark(), result.files(),
+        Map.copyOf(stagedS3Keys), null, elapsedMs);
+      runPort.save(entry);
+      staged.put(entry.table(), entry);
+
+      // 비동기와 동기 비교를 위한 로그
+      log.info("[AnalyticsExport] table={} mode={} rows={} elapsedMs={}",
+        result.table(), result.mode(), result.rowCount(), elapsedMs);
+
+      return result;
 
     } catch (Exception e) {
-      Throwable cause = (e instanceof CompletionException) ? e.getCause() : e; // CompletionException, IOException 등을 모두 처리
-      log.error("[AnalyticsExport] FAIL-FAST triggered. Export stopped.", cause);
+      rollback(localFiles, List.of(), openUploads, stagedS3Keys);
+      try {
+        runPort.save(ExportRunEntry.failed(date, extractor.table(), String.valueOf(e)));
+      } catch (Exception recordError) {
+        log.warn("[AnalyticsExport] 실패 기록 저장 실패 table={}", extractor.table(), recordError);
+      }
+      throw (e instanceof RuntimeException re) ? re
+        : new RuntimeException("테이블 내보내기 실패: table=" + extractor.table(), e);
+    }
+  }
 
-      //나머지 스레드 모두 중지
-      futures.forEach(f -> f.cancel(true));
+  /**
+   * 테이블 하나를 한 번 읽어 날짜마다 로컬 파일로 쓰고, 날짜별 파일을 S3 임시 키로 병렬 업로드한 뒤 STAGED 로 기록합니다.
+   * DIRECT_S3 여도 로컬에 먼저 씀 (날짜 수만큼 멀티파트 버퍼를 동시에 잡지 않도록)
+   * 실패하면 모든 날짜의 파일/임시 키를 정리하고 날짜마다 FAILED 로 기록
+   */
+  private void exportSnapshotTable(ExtractorPort extractor, List<LocalDate> dates,
+    Map<LocalDate, Map<ExportTable, ExportRunEntry>> staged) {
+    ExportTable table = extractor.table();
+    long start = System.nanoTime();
+
+    List<String> tmpPaths = new ArrayList<>(dates.size());
+    List<ChecksumOutputStream> checksums = new ArrayList<>(dates.size());
+    List<String> localFiles = new CopyOnWriteArrayList<>();
+    // 날짜별 업로드 완료된 임시 키 -> 최종 키 (업로드가 병렬이라 날짜마다 따로)
+    List<Map<String, String>> stagedS3Keys = new ArrayList<>(dates.size());
+    List<S3MultipartOutputStream> openUploads = new CopyOnWriteArrayList<>();
+
+    try {
+      ExportPlan plan = planner.snapshot(extractor, dates.get(0));
+      ExportFormat format = props.format().formatFor(table);
+      ExportCompression compression = props.format().compressionFor(table);
+
+      List<String> fileNames = new ArrayList<>(dates.size());
+      List<OutputStream> outs = new ArrayList<>(dates.size());
+      for (LocalDate date : dates) {
+        String fileName = ExportFileName.of(table.filePrefix(), date, ExportMode.FULL, format,
+          compression).toFileName();
+        String tmpPath = storage.resolveTemp(storage.resolve(fileName));
+        fileNames.add(fileName);
+        tmpPaths.add(tmpPath);
+        ChecksumOutputStream os = new ChecksumOutputStream(storage.openOutputStream(tmpPath));
+        checksums.add(os);
+        outs.add(compress(compression, os));
+        stagedS3Keys.add(Collections.synchronizedMap(new LinkedHashMap<>()));
+      }
+
+      // 1. 스캔 한 번으로 날짜별 파일 작성
+      long rowCount = partitionedWriter.writeDates(extractor, plan, dates, writerFor(format),
+        outs);
+      for (int i = 0; i < dates.size(); i++) {
+        String finalPath = storage.resolve(fileNames.get(i));
+        storage.moveAtomic(tmpPaths.get(i), finalPath);
+        localFiles.add(finalPath);
+      }
+      long uploadStart = System.nanoTime();
+      metrics.recordPhase(table, "extract", uploadStart - start);
 
-      // 롤백 실행: S3에 올라간 파일 삭제 + 로컬 파일 삭제
-      rollback(createdFinalFiles, createdS3Keys);
+      // 2. 날짜별 파일 병렬 업로드
+      List<Integer> indexes = IntStream.range(0, dates.size()).boxed().toList();
+      List<ExportResult> uploaded = runAllOrNothing(indexes, i -> uploadToStaged(
+        new ExportResult(table, dates.get(i), ExportMode.FULL, rowCount, plan.nextWatermark(),
+          List.of(checksums.get(i).toExportedFile(fileNames.get(i))), 0, 0),
+        stagedS3Keys.get(i), openUploads));
+      metrics.recordPhase(table, "upload", System.nanoTime() - uploadStart);
+      cleanupLocalFiles(localFiles);
 
-      throw new RuntimeException("분석 데이터 내보내기 중 오류가 발생하여 전체 작업을 중단합니다.", cause);
+      long elapsedMs = NANOSECONDS.toMillis(System.nanoTime() - start);
+      List<ExportRunEntry> entries = new ArrayList<>(dates.size());
+      for (int i = 0; i < dates.size(); i++) {
+        ExportResult result = uploaded.get(i);
+        entries.add(new ExportRunEntry(result.date(), table, ExportRunState.STAGED,
+          ExportMode.FULL, rowCount, result.watermark(), result.files(),
+          Map.copyOf(stagedS3Keys.get(i)), null, elapsedMs));
+      }
+      runPort.saveAll(entries);
+      entries.forEach(entry -> staged.get(entry.date()).put(table, entry));
+
+      log.info("[AnalyticsBackfill] table={} dates={} rows={} scans=1 elapsedMs={}", table,
+        dates.size(), rowCount, elapsedMs);
+
+    } catch (Exception e) {
+      // writer 가 닫지 못한 파일까지 닫은 뒤 tmp 삭제
+      for (int i = 0; i < checksums.size(); i++) {
+        try {
+          checksums.get(i).close();
+        } catch (IOException ignored) {
+          // 삭제할 파일
+        }
+        try {
+          storage.deleteIfExists(tmpPaths.get(i));
+        } catch (Exception ignored) {
+          log.warn("[AnalyticsBackfill] tmp 삭제 실패 tmp={}", tmpPaths.get(i));
+        }
+      }
+      Map<String, String> allStagedKeys = new LinkedHashMap<>();
+      stagedS3Keys.forEach(allStagedKeys::putAll);
+      rollback(localFiles, List.of(), openUploads, allStagedKeys);
+      try {
+        runPort.saveAll(dates.stream()
+          .map(date -> ExportRunEntry.failed(date, table, String.valueOf(e)))
+          .toList());
+      } catch (Exception recordError) {
+        log.warn("[AnalyticsBackfill] 실패 기록 저장 실패 table={}", table, recordError);
+      }
+      throw new RuntimeException("스냅샷 백필 실패: table=" + table, e);
     }
   }
 
   /**
-   *  모든 파일을 S3로 업로드. 하나라도 실패하면 예외 발생
+   * 모든 테이블의 임시 키를 최종 키로 복사하고 매니페스트와 커밋 마커를 쓴 뒤 워터마크와 실행 기록을 갱신합니다.
+   * 복사 도중 실패하면 이미 복사된 최종 키만 지우고 임시 키는 남겨 둠 (재실행 시 커밋만 다시)
+   * 마커 이후 기록 저장이 실패해도 실행 기록이 STAGED 로 남아 재실행 시 같은 파일로 커밋만 다시 함
+   * 과거 날짜 백필은 advanceWatermark=false (다음 정기 실행의 DELTA 구간이 건너뛰어지지 않도록)
    */
-  private void uploadAllToS3(List<String> localPaths, List<String> createdS3Keys) throws IOException {
-    for (String localPath : localPaths) {
-      String fileName = Path.of(localPath).getFileName().toString();
-      String s3Key = s3Storage.resolve(fileName);
+  private void commitRun(LocalDate date, List<ExportRunEntry> entries, boolean advanceWatermark)
+    throws IOException {
+    Map<String, String> stagedS3Keys = new LinkedHashMap<>();
+    // 최종 키 -> SHA-256 (최종 객체 메타데이터로 기록해 HEAD 만으로 대조 가능)
+    Map<String, String> sha256ByKey = new HashMap<>();
+    for (ExportRunEntry entry : entries) {
+      stagedS3Keys.putAll(entry.stagedKeys());
+      entry.files().forEach(file ->
+        sha256ByKey.put(s3Storage.resolve(file.fileName()), file.sha256()));
+    }
 
-      try (OutputStream s30s = s3Storage.openOutputStream(s3Key)) {
-        Files.copy(Path.of(localPath), s30s);
-        createdS3Keys.add(s3Key); // 성공 기록
-        log.info("[S3Upload] Success: {}", s3Key);
-      } catch (Exception e) {
-        throw new IOException("S3 업로드 실패: " + fileName, e);
+    List<String> committedKeys = new CopyOnWriteArrayList<>();
+    try {
+      // 서버 측 복사라 데이터 재전송 없음, 파일 단위 병렬
+      commitStagedS3Keys(stagedS3Keys, sha256ByKey, committedKeys);
+    } catch (IOException e) {
+      rollback(List.of(), committedKeys, List.of(), Map.of());
+      throw e;
+    }
+
+    // 매니페스트를 마커보다 먼저 기록 (마커가 보이면 매니페스트도 항상 있음)
+    String manifestKey = s3Storage.resolve(ExportManifest.fileName(date));
+    s3Storage.putObject(manifestKey, manifestJson(date, entries));
+
+    String markerKey = s3Storage.resolve(new ExportCommitMarker(date).toFileName());
+    s3Storage.putObject(markerKey, new byte[0]);
+    log.info("[AnalyticsExport] 커밋 완료 date={} files={} manifest={} marker={}", date,
+      stagedS3Keys.size(), manifestKey, markerKey);
+
+    // 모든 커밋이 끝난 뒤에만 워터마크 전진 (실패 시 다음 실행에서 같은 구간을 다시 내보냄)
+    if (advanceWatermark) {
+      watermarkPort.saveAll(entries.stream().map(ExportRunEntry::watermark).toList());
+    }
+    runPort.saveAll(entries.stream()
+      .map(entry -> entry.withState(ExportRunState.COMMITTED))
+      .toList());
+
+    // 임시 키 정리 (실패해도 결과에는 영향 없음)
+    for (String stagedKey : stagedS3Keys.keySet()) {
+      s3Storage.deleteIfExists(stagedKey);
+    }
+  }
+
+  /**
+   * 날짜의 테이블별 행 수, 파일 크기/SHA-256, 소요 시간, 컬럼 스키마를 JSON 으로 직렬화
+   */
+  private byte[] manifestJson(LocalDate date, List<ExportRunEntry> entries) {
+    Map<ExportTable, ExtractorPort> extractorByTable = new EnumMap<>(ExportTable.class);
+    extractors.forEach(extractor -> extractorByTable.put(extractor.table(), extractor));
+
+    List<ExportManifest.TableEntry> tables = entries.stream()
+      .sorted(Comparator.comparing(ExportRunEntry::table))
+      .map(entry -> new ExportManifest.TableEntry(entry.table(), entry.mode(), entry.rowCount(),
+        entry.files().stream().mapToLong(ExportedFile::bytes).sum(), entry.elapsedMs(),
+        extractorByTable.get(entry.table()).columns().stream()
+          .map(column -> new ExportManifest.ColumnEntry(column.name(), column.type()))
+          .toList(),
+        entry.files()))
+      .toList();
+    ExportManifest manifest = new ExportManifest(ExportManifest.SCHEMA_VERSION, date.toString(),
+      OffsetDateTime.now().toString(), props.layout().type(), tables);
+    try {
+      return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize export manifest", e);
+    }
+  }
+
+  /**
+   * 로컬 파일을 S3 임시 키로 업로드 (파일 내부는 멀티파트 스트림으로 파트 단위 업로드)
+   * - 일시적 오류는 지수 백오프로 재시도 (로컬 파일이 남아 있으므로 처음부터 다시 업로드)
+   * - 실패 시 close() 로 부분 업로드를 완료하지 않고 abort() 로 중단
+   */
+  private ExportResult uploadToStaged(ExportResult result, Map<String, String> stagedS3Keys,
+    List<S3MultipartOutputStream> openUploads) throws IOException {
+    AnalyticsExportProperties.S3Upload upload = props.s3Upload();
+
+    long start = System.nanoTime();
+    long bytes = 0;
+    // 회사별 분할이면 테이블의 part 파일들을 차례로 업로드
+    for (ExportedFile file : result.files()) {
+      Path localPath = Path.of(storage.resolve(file.fileName()));
+      String finalKey = s3Storage.resolve(file.fileName());
+      String stagedKey = s3Storage.resolveTemp(finalKey);
+      bytes += BackoffRetry.call("S3Upload " + stagedKey, upload.maxAttempts(),
+        upload.initialBackoffMs(), metrics.s3RetryCounter("upload"),
+        () -> uploadOnce(localPath, stagedKey, openUploads));
+      stagedS3Keys.put(stagedKey, finalKey); // 성공 기록
+    }
+    long elapsedMs = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    ExportResult uploaded = result.withUpload(bytes, elapsedMs);
+    log.info("[S3Upload] Success: table={} files={} bytes={} elapsedMs={} throughputMBps={}",
+      result.table(), result.files().size(), bytes, elapsedMs,
+      String.format("%.1f", uploaded.uploadMbPerSec()));
+    return uploaded;
+  }
+
+  private long uploadOnce(Path localPath, String s3Key, List<S3MultipartOutputStream> openUploads)
+    throws IOException {
+    S3MultipartOutputStream s3Os = s3Storage.openOutputStream(s3Key);
+    openUploads.add(s3Os);
+    try {
+      Files.copy(localPath, s3Os);
+      s3Os.close();
+      return s3Os.bytesWritten();
+    } catch (Exception e) {
+      s3Os.abort();
+      throw new IOException("S3 업로드 실패: " + localPath.getFileName(), e);
+    } finally {
+      openUploads.remove(s3Os);
+    }
+  }
+
+  /**
+   * S3 임시 키들을 최종 키로 병렬 복사. 하나라도 실패하면 예외 발생 (호출자가 이미 복사된 키 삭제)
+   */
+  private void commitStagedS3Keys(Map<String, String> stagedS3Keys,
+    Map<String, String> sha256ByKey, List<String> createdS3Keys) throws IOException {
+    AnalyticsExportProperties.S3Upload upload = props.s3Upload();
+
+    runAllOrNothing(List.copyOf(stagedS3Keys.entrySet()), staged -> {
+      long start = System.nanoTime();
+      BackoffRetry.call("S3Commit " + staged.getValue(), upload.maxAttempts(),
+        upload.initialBackoffMs(), metrics.s3RetryCounter("commit"), () -> {
+          String sha256 = sha256ByKey.get(staged.getValue());
+          s3Storage.copy(staged.getKey(), staged.getValue(),
+            sha256 != null ? Map.of("sha256", sha256) : Map.of());
+          return null;
+        });
+      createdS3Keys.add(staged.getValue()); // 성공 기록
+      log.info("[S3Commit] Success: {} elapsedMs={}", staged.getValue(),
+        NANOSECONDS.toMillis(System.nanoTime() - start));
+      return staged.getValue();
+    });
+  }
+
+  /**
+   * 파일 단위 작업을 s3FileUploadExecutor 에서 병렬 실행합니다.
+   * 하나가 실패하면 아직 시작하지 않은 작업은 건너뛰고, 진행 중인 작업이 끝날 때까지 기다린 뒤 첫 예외를 던집니다.
+   * (진행 중인 복사가 롤백 이후에 키를 남기지 않도록 모두 정리된 다음 반환)
+   */
+  private <T, R> List<R> runAllOrNothing(List<T> items, FileTask<T, R> task)
+    throws IOException {
+    // 첫 실제 실패 원인 (건너뛴 작업의 예외보다 우선)
+    AtomicReference<Exception> firstFailure = new AtomicReference<>();
+
+    List<CompletableFuture<R>> futures = items.stream()
+      .map(item -> CompletableFuture.supplyAsync(() -> {
+        if (firstFailure.get() != null) {
+          throw new CompletionException(new IOException("다른 파일 실패로 건너뜀"));
+        }
+        try {
+          return task.run(item);
+        } catch (Exception e) {
+          firstFailure.compareAndSet(null, e);
+          throw new CompletionException(e);
+        }
+      }, s3FileUploadExecutor))
+      .toList();
+
+    List<R> completed = new ArrayList<>(futures.size());
+    for (CompletableFuture<R> future : futures) {
+      try {
+        completed.add(future.join());
+      } catch (CompletionException ignored) {
+        // 원인은 firstFailure 에 기록됨
+      }
+    }
+
+    Exception failure = firstFailure.get();
+    if (failure != null) {
+      throw (failure instanceof IOException io) ? io : new IOException(failure);
+    }
+    return completed;
+  }
+
+  @FunctionalInterface
+  private interface FileTask<T, R> {
+
+    R run(T item) throws Exception;
+  }
+
+  /**
+   * 로컬 파일 없이 S3로 직접 스트리밍: - S3 임시 키에 멀티파트로 쓰고(추출과 업로드가 겹침) - 성공하면 커밋 대기 목록에 등록 - 실패하면 업로드 중단
+   */
+  private ExportResult exportByExtractorToS3Staged(
+    ExtractorPort extractor,
+    ExportPlan plan,
+    LocalDate date,
+    Map<String, String> stagedS3Keys,
+    List<S3MultipartOutputStream> openUploads
+  ) {
+    ExportFormat format = props.format().formatFor(extractor.table());
+    ExportCompression compression = props.format().compressionFor(extractor.table());
+    if (props.layout().type() == ExportLayout.COMPANY_PARTITIONED) {
+      return exportByCompany(extractor, plan, date, format, compression,
+        new S3StagedPartOutput(stagedS3Keys, openUploads));
+    }
+
+    String finalFileName = ExportFileName.of(extractor.table().filePrefix(), date, plan.mode(),
+      format, compression).toFileName();
+    String finalKey = s3Storage.resolve(finalFileName);
+    String stagedKey = s3Storage.resolveTemp(finalKey);
+
+    S3MultipartOutputStream s3Os = null;
+    long start = System.nanoTime();
+    try {
+      s3Os = s3Storage.openOutputStream(stagedKey);
+      openUploads.add(s3Os);
+
+      // writer 가 스트림을 닫으면 부분 데이터로 업로드가 완료되므로, 닫지 못하게 감싸고 성공했을 때만 close
+      ChecksumOutputStream checksum = new ChecksumOutputStream(StreamUtils.nonClosing(s3Os));
+      long rowCount = partitionedWriter.write(extractor, plan, date, writerFor(format),
+        compress(compression, checksum));
+      s3Os.close();
+
+      // 커밋 대기 등록 (실패 시 롤백에서 삭제)
+      stagedS3Keys.put(stagedKey, finalKey);
+
+      // 추출과 업로드가 겹치므로 업로드 시간 = 스트림 전체 시간
+      return new ExportResult(extractor.table(), date, plan.mode(), rowCount,
+        plan.nextWatermark(), List.of(checksum.toExportedFile(finalFileName)), 0, 0)
+        .withUpload(s3Os.bytesWritten(), NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    } catch (Exception e) {
+      if (s3Os != null) {
+        s3Os.abort();
+      }
+      throw new RuntimeException("테이블 추출 실패: table=" + extractor.table(), e);
+    } finally {
+      if (s3Os != null) {
+        openUploads.remove(s3Os);
       }
     }
   }
@@ -156,17 +799,27 @@ public class AnalyticsExportOrchestrator {
    */
   private ExportResult exportByExtractorAtomic(
     ExtractorPort extractor,
+    ExportPlan plan,
     LocalDate date,
     List<String> createdFinalFiles
   ) {
-    //final 파일 경로
-    String finalFileName = ExportFileName.of(extractor.table().filePrefix(), date).toFileName();
+    //final 파일 경로 (DELTA 는 inventory_delta--날짜.csv, PARQUET 는 .parquet)
+    ExportFormat format = props.format().formatFor(extractor.table());
+    ExportCompression compression = props.format().compressionFor(extractor.table());
+    if (props.layout().type() == ExportLayout.COMPANY_PARTITIONED) {
+      return exportByCompany(extractor, plan, date, format, compression,
+        new LocalPartOutput(createdFinalFiles));
+    }
+
+    String finalFileName = ExportFileName.of(extractor.table().filePrefix(), date, plan.mode(),
+      format, compression).toFileName();
     String finalPath = storage.resolve(finalFileName); // 최종 결과 경로
     String tmpPath = storage.resolveTemp(finalPath);   // 임시 파일 경로
 
-    try (OutputStream os = storage.openOutputStream(tmpPath)) {
+    try (ChecksumOutputStream os = new ChecksumOutputStream(storage.openOutputStream(tmpPath))) {
       // 실제 쓰기는 임시에
-      long rowCount = writer.write(os, extractor.header(), extractor.extractRows(date));
+      long rowCount = partitionedWriter.write(extractor, plan, date, writerFor(format),
+        compress(compression, os));
 
       // 성공하면 최종 파일로 이동
       storage.moveAtomic(tmpPath, finalPath);
@@ -174,7 +827,8 @@ public class AnalyticsExportOrchestrator {
       // 최종 파일 생성 기록 (실패 시 cleanup 용도)
       createdFinalFiles.add(finalPath);
 
-      return new ExportResult(extractor.table(), date, rowCount);
+      return new ExportResult(extractor.table(), date, plan.mode(), rowCount,
+        plan.nextWatermark(), List.of(os.toExportedFile(finalFileName)), 0, 0);
 
     } catch (Exception e) {
       // 실패하면 tmp 파일 삭제
@@ -188,7 +842,161 @@ public class AnalyticsExportOrchestrator {
     }
   }
 
-  private void rollback(List<String> localFiles, List<String> s3Keys) {
+  /**
+   * 회사별 분할 배치: part 파일마다 output 에서 열고 확정, 실패하면 확정되지 않은 part 정리
+   * (이미 확정된 part 는 createdFinalFiles / stagedS3Keys 에 남아 테이블 롤백에서 삭제)
+   */
+  private ExportResult exportByCompany(ExtractorPort extractor, ExportPlan plan, LocalDate date,
+    ExportFormat format, ExportCompression compression, PartOutputSupport output) {
+    long start = System.nanoTime();
+    try {
+      CompanyExport export = companyWriter.write(extractor, plan, date, format, compression,
+        writerFor(format), output);
+
+      ExportResult result = new ExportResult(extractor.table(), date, plan.mode(),
+        export.rowCount(), plan.nextWatermark(), export.files(), 0, 0);
+      // DIRECT_S3 는 추출과 업로드가 겹치므로 업로드 시간 = 스트림 전체 시간
+      long elapsedMs = NANOSECONDS.toMillis(System.nanoTime() - start);
+      return output.uploadedBytes() > 0 ? result.withUpload(output.uploadedBytes(), elapsedMs)
+        : result;
+
+    } catch (Exception e) {
+      output.abort();
+      throw new RuntimeException("테이블 추출 실패: table=" + extractor.table(), e);
+    }
+  }
+
+  private interface PartOutputSupport extends PartOutput {
+
+    // 지금까지 S3로 올린 바이트 수 (로컬은 0)
+    long uploadedBytes();
+
+    // 열려 있는 part 정리
+    void abort();
+  }
+
+  /**
+   * 로컬 part 파일: tmp 에 쓰고 확정 시 final 로 이동
+   */
+  @RequiredArgsConstructor
+  private class LocalPartOutput implements PartOutputSupport {
+
+    private final List<String> createdFinalFiles;
+    private ChecksumOutputStream out;
+    private String finalPath;
+    private String tmpPath;
+
+    @Override
+    public OutputStream open(String fileName) throws IOException {
+      finalPath = storage.resolve(fileName);
+      tmpPath = storage.resolveTemp(finalPath);
+      out = new ChecksumOutputStream(storage.openOutputStream(tmpPath));
+      return out;
+    }
+
+    @Override
+    public ExportedFile complete(String fileName) throws IOException {
+      storage.moveAtomic(tmpPath, finalPath);
+      createdFinalFiles.add(finalPath);
+      tmpPath = null;
+      return out.toExportedFile(fileName);
+    }
+
+    @Override
+    public long uploadedBytes() {
+      return 0;
+    }
+
+    @Override
+    public void abort() {
+      if (tmpPath == null) {
+        return;
+      }
+      try {
+        storage.deleteIfExists(tmpPath);
+      } catch (Exception ignored) {
+        log.warn("[AnalyticsExport] tmp 삭제 실패 tmp={}", tmpPath);
+      }
+    }
+  }
+
+  /**
+   * S3 part 파일: 임시 키로 멀티파트 스트리밍하고 확정 시 커밋 대기 목록에 등록
+   */
+  @RequiredArgsConstructor
+  private class S3StagedPartOutput implements PartOutputSupport {
+
+    private final Map<String, String> stagedS3Keys;
+    private final List<S3MultipartOutputStream> openUploads;
+    private S3MultipartOutputStream s3Os;
+    private ChecksumOutputStream out;
+    private String finalKey;
+    private String stagedKey;
+    private long bytes;
+
+    @Override
+    public OutputStream open(String fileName) throws IOException {
+      finalKey = s3Storage.resolve(fileName);
+      stagedKey = s3Storage.resolveTemp(finalKey);
+      s3Os = s3Storage.openOutputStream(stagedKey);
+      openUploads.add(s3Os);
+      // writer 가 닫으면 부분 데이터로 업로드가 완료되므로, 닫지 못하게 감싸고 complete 에서 close
+      out = new ChecksumOutputStream(StreamUtils.nonClosing(s3Os));
+      return out;
+    }
+
+    @Override
+    public ExportedFile complete(String fileName) throws IOException {
+      s3Os.close();
+      bytes += s3Os.bytesWritten();
+      stagedS3Keys.put(stagedKey, finalKey);
+      openUploads.remove(s3Os);
+      s3Os = null;
+      return out.toExportedFile(fileName);
+    }
+
+    @Override
+    public long uploadedBytes() {
+      return bytes;
+    }
+
+    @Override
+    public void abort() {
+      if (s3Os == null) {
+        return;
+      }
+      s3Os.abort();
+      openUploads.remove(s3Os);
+    }
+  }
+
+  // 설정된 압축으로 출력을 감쌈 (writer 가 닫을 때 압축 트레일러까지 기록)
+  private OutputStream compress(ExportCompression compression, OutputStream out)
+    throws IOException {
+    return CompressionStreams.wrap(compression, out, props.format().zstdLevel());
+  }
+
+  // 테이블에 설정된 파일 형식의 writer
+  private RecordWriterPort writerFor(ExportFormat format) {
+    return writers.stream()
+      .filter(writer -> writer.format() == format)
+      .findFirst()
+      .orElseThrow(() -> new IllegalStateException("No writer for format: " + format));
+  }
+
+  private void rollback(List<String> localFiles, List<String> s3Keys,
+    List<S3MultipartOutputStream> openUploads, Map<String, String> stagedS3Keys) {
+    // 진행 중인 멀티파트 업로드 중단 (부분 파트 정리)
+    for (S3MultipartOutputStream upload : openUploads) {
+      upload.abort();
+    }
+
+    // 커밋되지 않은 S3 임시 키 삭제
+    for (String stagedKey : stagedS3Keys.keySet()) {
+      s3Storage.deleteIfExists(stagedKey);
+      log.info("[Rollback] Deleted staged S3 Key: {}", stagedKey);
+    }
+
     // S3 데이터 삭제
     for (String key : s3Keys) {
       try {
@@ -216,8 +1024,64 @@ public class AnalyticsExportOrchestrator {
     }
   }
 
+  // 이전 실행에서 STAGED 로 남은 테이블의 결과 (재추출 없이 커밋만)
+  private static ExportResult toResult(ExportRunEntry entry) {
+    long bytes = entry.files().stream().mapToLong(ExportedFile::bytes).sum();
+    return new ExportResult(entry.table(), entry.date(), entry.mode(), entry.rowCount(),
+      entry.watermark(), entry.files(), bytes, 0);
+  }
+
+  // 테이블별 FULL/DELTA 행 수 요약
+  private void logRowCountSummary(Map<ExportTable, ExportResult> results) {
+    long fullRows = 0;
+    long deltaRows = 0;
+    for (ExportResult result : results.values()) {
+      if (result.mode() == ExportMode.DELTA) {
+        deltaRows += result.rowCount();
+      } else {
+        fullRows += result.rowCount();
+      }
+    }
+    log.info("[AnalyticsExport] 행 수 요약 fullRows={} deltaRows={} tables={}", fullRows, deltaRows,
+      results.values().stream()
+        .map(r -> r.table() + ":" + r.mode() + ":" + r.rowCount())
+        .toList());
+  }
+
+  // 테이블별 업로드 바이트/시간/처리량 요약
+  private void logUploadSummary(Map<ExportTable, ExportResult> results) {
+    long totalBytes = results.values().stream().mapToLong(ExportResult::bytes).sum();
+    log.info("[AnalyticsExport] 업로드 요약 totalBytes={} files={}", totalBytes,
+      results.values().stream()
+        .map(r -> r.table() + ":" + r.bytes() + "B:" + r.uploadMs() + "ms:"
+          + String.format("%.1f", r.uploadMbPerSec()) + "MB/s")
+        .toList());
+  }
+
   //ExportResult 객체 하나는 데이터베이스의 특정 테이블 하나를 CSV 파일 하나로 추출한 결과
-  public record ExportResult(ExportTable table, LocalDate date, long rowCount) {
+  public record ExportResult(
+    ExportTable table,
+    LocalDate date,
+    ExportMode mode,
+    long rowCount,
+    // 성공 시 저장할 다음 워터마크
+    ExportWatermark watermark,
+    // 생성된 파일 (로컬/S3 공통 이름, 크기, SHA-256), 회사별 분할이면 part 파일 여러 개
+    List<ExportedFile> files,
+    // S3 업로드 바이트 수와 소요 시간 (업로드 전에는 0)
+    long bytes,
+    long uploadMs
+  ) {
 
+    public ExportResult withUpload(long bytes, long uploadMs) {
+      return new ExportResult(table, date, mode, rowCount, watermark, files, bytes, uploadMs);
+    }
+
+    public double uploadMbPerSec() {
+      if (uploadMs <= 0) {
+        return 0;
+      }
+      return (bytes / (1024.0 * 1024.0)) / (uploadMs / 1000.0);
+    }
   }
 }
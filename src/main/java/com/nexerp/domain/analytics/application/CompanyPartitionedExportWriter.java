@@ -0,0 +1,153 @@
+package com.nexerp.domain.analytics.application;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.CompanyPartitionPath;
+import com.nexerp.domain.analytics.domain.ExportCompression;
+import com.nexerp.domain.analytics.domain.ExportFormat;
+import com.nexerp.domain.analytics.domain.ExportPlan;
+import com.nexerp.domain.analytics.domain.ExportedFile;
+import com.nexerp.domain.analytics.infra.util.CompressionStreams;
+import com.nexerp.domain.analytics.port.CompanyRecord;
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import com.nexerp.domain.analytics.port.RecordWriterPort;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블을 회사(company_id)별 part 파일로 나눠 씁니다.
+ * - 추출 쿼리가 회사 ID, PK 순으로 정렬해 주므로 한 번에 파일 하나만 열고 회사가 바뀔 때 다음 파일로 넘어감
+ * - 회사 하나의 행이 maxRowsPerPart 를 넘으면 part-1, part-2 ... 로 이어서 씀
+ * - 행이 없는 회사는 파일을 만들지 않음
+ * - 회사를 알 수 없는 행(부모 행 없음)은 company_id=0 파티션에 쓰고 경고 로그를 남김
+ * 정렬 비용: 회사 ID 순서는 PK 인덱스 순서가 아니므로 복제본이 구간 전체를 filesort 한 뒤에야 첫 행을 보냄
+ * (FLAT 은 PK 순서라 바로 시작). 이 시간은 analytics.replica.query{table} (첫 행까지 지연)에 그대로 잡히므로
+ * 레이아웃을 바꿀 때 FLAT 과 비교합니다. (DELTA 는 구간이 작아 정렬도 작음, FULL 은 테이블 전체)
+ * 회사 수만큼 파일을 동시에 열어야 하는 writer 측 분류 대신 정렬을 택함 (한 번에 파일 하나, 메모리 일정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyPartitionedExportWriter {
+
+  private final AnalyticsExportProperties props;
+
+  /**
+   * plan 구간의 레코드를 회사별 part 파일로 쓰고, 만든 파일 목록과 총 행 수를 반환합니다.
+   */
+  public CompanyExport write(ExtractorPort extractor, ExportPlan plan, LocalDate date,
+    ExportFormat format, ExportCompression compression, RecordWriterPort writer,
+    PartOutput output) throws IOException {
+    long maxRowsPerPart = props.layout().maxRowsPerPart();
+    List<ExportedFile> files = new ArrayList<>();
+    long rowCount = 0;
+    int companies = 0;
+
+    try (Stream<CompanyRecord> records = extractor.extractRecordsByCompany(plan.range())) {
+      PeekingIterator iterator = new PeekingIterator(records.iterator());
+
+      while (iterator.hasNext()) {
+        long companyId = iterator.peek().companyId();
+        companies++;
+        int part = 0;
+        long companyStartRows = rowCount;
+
+        do {
+          String fileName = new CompanyPartitionPath(plan.table().filePrefix(), companyId, date,
+            plan.mode(), part++, format, compression).toPath();
+          OutputStream out = CompressionStreams.wrap(compression, output.open(fileName),
+            props.format().zstdLevel());
+          rowCount += writer.write(out, extractor.columns(), date,
+            companySlice(iterator, companyId, maxRowsPerPart));
+          files.add(output.complete(fileName));
+        } while (iterator.hasNext() && iterator.peek().companyId() == companyId);
+
+        if (companyId == CompanyRecord.NO_COMPANY) {
+          log.warn("[AnalyticsExport] table={} 회사를 알 수 없는 행 {}건을 company_id={} 파티션에 씀",
+            plan.table(), rowCount - companyStartRows, CompanyRecord.NO_COMPANY);
+        }
+      }
+    }
+
+    log.info("[AnalyticsExport] table={} companies={} files={}", plan.table(), companies,
+      files.size());
+    return new CompanyExport(rowCount, files);
+  }
+
+  // 같은 회사의 행을 최대 maxRows 개까지 꺼내는 스트림 (닫아도 원본 스트림은 열려 있음)
+  private static Stream<ExportRecord> companySlice(PeekingIterator iterator, long companyId,
+    long maxRows) {
+    Spliterator<ExportRecord> slice = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+      Spliterator.ORDERED | Spliterator.NONNULL) {
+      private long taken;
+
+      @Override
+      public boolean tryAdvance(Consumer<? super ExportRecord> action) {
+        if (taken >= maxRows || !iterator.hasNext()
+          || iterator.peek().companyId() != companyId) {
+          return false;
+        }
+        taken++;
+        action.accept(iterator.next().record());
+        return true;
+      }
+    };
+    return StreamSupport.stream(slice, false);
+  }
+
+  /**
+   * part 파일 하나씩 열고 확정하는 출력 대상 (로컬 tmp 파일 / S3 임시 키)
+   */
+  public interface PartOutput {
+
+    //part 파일 출력 열기 (writer 가 기록 후 닫음)
+    OutputStream open(String fileName) throws IOException;
+
+    //writer 가 다 쓴 part 파일 확정하고 크기/체크섬 반환
+    ExportedFile complete(String fileName) throws IOException;
+  }
+
+  public record CompanyExport(long rowCount, List<ExportedFile> files) {
+
+  }
+
+  // 다음 행의 회사 ID 를 미리 보기 위한 반복자
+  private static final class PeekingIterator {
+
+    private final Iterator<CompanyRecord> delegate;
+    private CompanyRecord next;
+
+    PeekingIterator(Iterator<CompanyRecord> delegate) {
+      this.delegate = delegate;
+    }
+
+    boolean hasNext() {
+      return next != null || delegate.hasNext();
+    }
+
+    CompanyRecord peek() {
+      if (next == null) {
+        next = delegate.next();
+      }
+      return next;
+    }
+
+    CompanyRecord next() {
+      CompanyRecord current = peek();
+      next = null;
+      return current;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.nexerp.domain.analytics.application;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportPlan;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import com.nexerp.domain.analytics.port.WatermarkPort;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ExportPlanner {
+
+  private final WatermarkPort watermarkPort;
+  private final AnalyticsExportProperties props;
+
+  /**
+   * 테이블별 내보내기 방식을 결정합니다. - 상한 PK를 먼저 고정하여 추출 중 추가된 행은 다음 실행에서 가져갑니다. - 워터마크가 없거나 전체 스냅샷 주기가 되면 FULL,
+   * 그 외에는 워터마크 이후만 DELTA 로 내보냅니다.
+   * 상한 PK 를 읽은 뒤에 커밋된 더 작은 id 의 행은 다음 DELTA 가 워터마크 앞 overlapIds 만큼 다시 읽어 가져갑니다.
+   */
+  public ExportPlan plan(ExtractorPort extractor, LocalDate date) {
+    long maxId = extractor.maxId();
+    AnalyticsExportProperties.Incremental incremental = props.incremental();
+
+    if (!incremental.enabled()) {
+      return ExportPlan.full(extractor.table(), maxId, date);
+    }
+
+    return watermarkPort.find(extractor.table())
+      .filter(w -> !w.needsFullSnapshot(date, maxId, incremental.fullSnapshotIntervalDays()))
+      .map(w -> ExportPlan.delta(extractor.table(), w, maxId, incremental.overlapIds()))
+      .orElseGet(() -> ExportPlan.full(extractor.table(), maxId, date));
+  }
+
+  /**
+   * 워터마크와 관계없이 현재 상한 PK 까지 FULL 로 내보냅니다. (과거 날짜 백필, 워터마크는 저장하지 않음)
+   */
+  public ExportPlan snapshot(ExtractorPort extractor, LocalDate date) {
+    return ExportPlan.full(extractor.table(), extractor.maxId(), date);
+  }
+}
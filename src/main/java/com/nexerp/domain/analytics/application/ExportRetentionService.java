@@ -0,0 +1,352 @@
+package com.nexerp.domain.analytics.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportCommitMarker;
+import com.nexerp.domain.analytics.domain.ExportFileDate;
+import com.nexerp.domain.analytics.domain.ExportManifest;
+import com.nexerp.domain.analytics.domain.ExportMode;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportedFile;
+import com.nexerp.domain.analytics.infra.storage.S3Storage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 보관 기간(retentionMonths)이 지난 날짜의 내보내기 파일을 S3 와 로컬 tmp 에서 지웁니다.
+ * - S3: 만료 날짜의 매니페스트에 적힌 파일을 지움 (회사별 접두사를 목록 조회하지 않아 회사 수와 무관)
+ *   마커/매니페스트/테이블 접두사는 키를 사전순(= 날짜순)으로 읽다가 기준일 이후 키를 만나면 멈춤
+ *   매일 실행하면 읽고 지우는 양이 하루치로 일정 (쌓인 파일 수와 무관)
+ * - 소비자가 데이터 없는 날짜를 읽지 않도록 커밋 마커를 먼저 지우고, 매니페스트는 파일을 다 지운 뒤 지움
+ * - 삭제는 DeleteObjects(최대 1000개) 배치를 analyticsRetentionExecutor 에서 병렬로 보냄
+ * - 로컬에는 업로드 실패/중단으로 남은 파일만 있으므로 전체를 훑어 같은 방식으로 병렬 삭제
+ * - 한 번에 maxDeletesPerRun 개까지만 지우고 남은 파일은 다음 실행에서 이어서 지움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportRetentionService {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  private final S3Storage s3Storage;
+  private final AnalyticsExportProperties props;
+  private final ObjectMapper objectMapper; // 매니페스트 읽기
+  private final @Qualifier("analyticsRetentionExecutor") Executor analyticsRetentionExecutor;
+
+  /**
+   * today 기준 retentionMonths 이전 날짜의 파일을 지웁니다. (dryRun 이면 대상만 로그)
+   */
+  public RetentionResult purgeExpired(LocalDate today) {
+    LocalDate cutoff = today.minusMonths(props.retentionMonths());
+    AnalyticsExportProperties.Retention retention = props.retention();
+    if (props.retentionMonths() <= 0) {
+      // 설정 누락으로 전체가 삭제되지 않도록
+      log.warn("[Retention] retentionMonths={} 이므로 건너뜀", props.retentionMonths());
+      return new RetentionResult(cutoff, retention.dryRun(), 0, 0, 0, false);
+    }
+
+    long start = System.nanoTime();
+    DeleteBudget budget = new DeleteBudget(retention.maxDeletesPerRun());
+
+    long[] s3 = purgeS3(cutoff, retention.dryRun(), budget);
+    long[] local = purgeLocal(cutoff, retention.dryRun(), budget);
+
+    RetentionResult result = new RetentionResult(cutoff, retention.dryRun(), s3[0], local[0],
+      s3[1] + local[1], budget.exhausted());
+    log.info("[Retention] cutoff={} dryRun={} s3Deleted={} localDeleted={} failed={} "
+        + "limitReached={} elapsedMs={}", cutoff, result.dryRun(), result.s3Deleted(),
+      result.localDeleted(), result.failed(), result.limitReached(),
+      (System.nanoTime() - start) / 1_000_000);
+    return result;
+  }
+
+  // [삭제 수, 실패 수]
+  private long[] purgeS3(LocalDate cutoff, boolean dryRun, DeleteBudget budget) {
+    String base = props.s3KeyPrefix() + "/";
+    S3DeleteBatcher batcher = new S3DeleteBatcher(dryRun, budget);
+
+    // 1. 커밋 마커 먼저 (소비자가 더 이상 이 날짜를 읽지 않음)
+    scanExpired(base, base + ExportCommitMarker.PREFIX, cutoff, batcher);
+    batcher.await();
+
+    // 2. 만료 날짜의 매니페스트에 적힌 파일 (회사별 part 포함), 다 지운 날짜만 매니페스트 삭제
+    purgeManifestFiles(base, cutoff, batcher);
+
+    // 3. 매니페스트에 없는 테이블당 한 파일 레이아웃 파일 (임시 키 잔여, 매니페스트 도입 전 파일)
+    //    테이블 x 모드 접두사만 훑으므로 회사 수와 무관
+    for (ExportTable table : ExportTable.values()) {
+      for (ExportMode mode : ExportMode.values()) {
+        scanExpired(base, base + table.filePrefix() + mode.fileSuffix() + "--", cutoff, batcher);
+      }
+    }
+    batcher.await();
+    return new long[]{batcher.deleted.get(), batcher.failed.get()};
+  }
+
+  /**
+   * 만료된 매니페스트를 날짜순으로 읽어 적힌 파일을 지우고, 파일을 모두 지운 날짜의 매니페스트를 마지막에 지움
+   * 한도에 닿거나 삭제가 실패한 날짜는 매니페스트가 남아 다음 실행에서 이어서 지움
+   */
+  private void purgeManifestFiles(String base, LocalDate cutoff, S3DeleteBatcher batcher) {
+    List<String> manifestKeys = new ArrayList<>();
+    s3Storage.scanKeys(base + ExportManifest.PREFIX, key -> {
+      Optional<LocalDate> date = ExportFileDate.parse(key.substring(base.length()));
+      if (date.isEmpty()) {
+        return true;
+      }
+      if (!date.get().isBefore(cutoff)) {
+        return false;
+      }
+      manifestKeys.add(key);
+      return true;
+    });
+
+    for (String manifestKey : manifestKeys) {
+      Optional<ExportManifest> manifest = readManifest(manifestKey, batcher);
+      if (manifest.isEmpty()) {
+        continue;
+      }
+      long failedBefore = batcher.failed.get();
+      for (ExportManifest.TableEntry table : manifest.get().tables()) {
+        for (ExportedFile file : table.files()) {
+          if (!batcher.add(s3Storage.resolve(file.fileName()))) {
+            batcher.await();
+            return;
+          }
+        }
+      }
+      batcher.await();
+      if (batcher.failed.get() == failedBefore && batcher.add(manifestKey)) {
+        batcher.await();
+      }
+    }
+  }
+
+  private Optional<ExportManifest> readManifest(String manifestKey, S3DeleteBatcher batcher) {
+    try {
+      Optional<byte[]> json = s3Storage.getObjectIfExists(manifestKey);
+      if (json.isPresent()) {
+        return Optional.of(objectMapper.readValue(json.get(), ExportManifest.class));
+      }
+      return Optional.empty();
+    } catch (IOException e) {
+      batcher.failed.incrementAndGet();
+      log.warn("[Retention] 매니페스트 읽기 실패 manifest={}", manifestKey, e);
+      return Optional.empty();
+    }
+  }
+
+  // 같은 접두사 안에서는 키 순서가 날짜 순서이므로 기준일 이후 키를 만나면 그 접두사는 끝
+  private void scanExpired(String base, String prefix, LocalDate cutoff,
+    S3DeleteBatcher batcher) {
+    s3Storage.scanKeys(prefix, key -> {
+      Optional<LocalDate> date = ExportFileDate.parse(key.substring(base.length()));
+      if (date.isEmpty()) {
+        // 규칙에 맞지 않는 키는 건드리지 않음
+        return true;
+      }
+      if (!date.get().isBefore(cutoff)) {
+        return false;
+      }
+      return batcher.add(key);
+    });
+    batcher.flush();
+  }
+
+  // [삭제 수, 실패 수]
+  private long[] purgeLocal(LocalDate cutoff, boolean dryRun, DeleteBudget budget) {
+    Path baseDir = Path.of(props.localPath());
+    if (!Files.isDirectory(baseDir)) {
+      return new long[]{0, 0};
+    }
+
+    List<Path> expired = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(baseDir)) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+        if (isExpiredLocal(baseDir, file, cutoff)) {
+          if (!budget.take()) {
+            break;
+          }
+          expired.add(file);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("[Retention] 로컬 파일 목록 조회 실패 dir={}", baseDir, e);
+      return new long[]{0, 0};
+    }
+
+    if (dryRun) {
+      expired.forEach(file -> log.info("[Retention] dry-run local file={}", file));
+      return new long[]{expired.size(), 0};
+    }
+
+    AtomicLong deleted = new AtomicLong();
+    AtomicLong failed = new AtomicLong();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int from = 0; from < expired.size(); from += S3Storage.MAX_DELETE_BATCH) {
+      List<Path> batch = expired.subList(from,
+        Math.min(from + S3Storage.MAX_DELETE_BATCH, expired.size()));
+      futures.add(CompletableFuture.runAsync(() -> {
+        for (Path file : batch) {
+          try {
+            Files.deleteIfExists(file);
+            deleted.incrementAndGet();
+          } catch (IOException e) {
+            failed.incrementAndGet();
+            log.warn("[Retention] 로컬 파일 삭제 실패 file={}", file, e);
+          }
+        }
+      }, analyticsRetentionExecutor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    deleteEmptyDirectories(baseDir);
+    return new long[]{deleted.get(), failed.get()};
+  }
+
+  // 이름에서 날짜를 읽고, 날짜 없는 임시 파일(파티션 .part-N 등)은 수정 시각으로 판단
+  private static boolean isExpiredLocal(Path baseDir, Path file, LocalDate cutoff) {
+    String relative = baseDir.relativize(file).toString().replace('\\', '/');
+    Optional<LocalDate> date = ExportFileDate.parse(relative);
+    if (date.isPresent()) {
+      return date.get().isBefore(cutoff);
+    }
+    if (!ExportFileDate.isTemp(relative)) {
+      return false;
+    }
+    try {
+      LocalDate modified = LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZONE);
+      return modified.isBefore(cutoff);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  // 회사별 레이아웃이 남긴 빈 디렉터리 정리 (기준 디렉터리는 유지)
+  private static void deleteEmptyDirectories(Path baseDir) {
+    try (Stream<Path> paths = Files.walk(baseDir)) {
+      paths.filter(Files::isDirectory)
+        .filter(dir -> !dir.equals(baseDir))
+        .sorted(Comparator.reverseOrder())
+        .forEach(dir -> {
+          try (Stream<Path> children = Files.list(dir)) {
+            if (children.findAny().isEmpty()) {
+              Files.delete(dir);
+            }
+          } catch (NoSuchFileException ignored) {
+            // 이미 삭제됨
+          } catch (IOException e) {
+            log.debug("[Retention] 빈 디렉터리 삭제 실패 dir={}", dir, e);
+          }
+        });
+    } catch (IOException e) {
+      log.warn("[Retention] 빈 디렉터리 정리 실패 dir={}", baseDir, e);
+    }
+  }
+
+  public record RetentionResult(LocalDate cutoff, boolean dryRun, long s3Deleted,
+                                long localDeleted, long failed, boolean limitReached) {
+
+  }
+
+  // 실행당 최대 삭제 수
+  private static final class DeleteBudget {
+
+    private final long limit;
+    private long taken;
+
+    DeleteBudget(long limit) {
+      this.limit = limit;
+    }
+
+    // 목록을 읽는 스레드 하나에서만 호출
+    boolean take() {
+      if (taken >= limit) {
+        return false;
+      }
+      taken++;
+      return true;
+    }
+
+    boolean exhausted() {
+      return taken >= limit;
+    }
+  }
+
+  // 만료 키를 1000개씩 모아 DeleteObjects 를 비동기로 보냄
+  private final class S3DeleteBatcher {
+
+    private final boolean dryRun;
+    private final DeleteBudget budget;
+    private final AtomicLong deleted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private List<String> batch = new ArrayList<>();
+
+    S3DeleteBatcher(boolean dryRun, DeleteBudget budget) {
+      this.dryRun = dryRun;
+      this.budget = budget;
+    }
+
+    // 한도에 닿으면 false (목록 읽기 중단)
+    boolean add(String key) {
+      if (!budget.take()) {
+        return false;
+      }
+      batch.add(key);
+      if (batch.size() == S3Storage.MAX_DELETE_BATCH) {
+        flush();
+      }
+      return true;
+    }
+
+    void flush() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      List<String> keys = batch;
+      batch = new ArrayList<>();
+
+      if (dryRun) {
+        log.info("[Retention] dry-run s3 keys={} first={} last={}", keys.size(), keys.get(0),
+          keys.get(keys.size() - 1));
+        deleted.addAndGet(keys.size());
+        return;
+      }
+      pending.add(CompletableFuture.runAsync(() -> {
+        try {
+          int count = s3Storage.deleteObjects(keys);
+          deleted.addAndGet(count);
+          failed.addAndGet(keys.size() - count);
+        } catch (IOException e) {
+          failed.addAndGet(keys.size());
+          log.warn("[Retention] S3 삭제 배치 실패 keys={} first={}", keys.size(), keys.get(0), e);
+        }
+      }, analyticsRetentionExecutor));
+    }
+
+    // 보낸 배치가 모두 끝날 때까지 대기
+    void await() {
+      flush();
+      CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+      pending.clear();
+    }
+  }
+}
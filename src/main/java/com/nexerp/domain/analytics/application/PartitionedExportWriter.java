@@ -0,0 +1,188 @@
+package com.nexerp.domain.analytics.application;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportPlan;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.storage.LocalTmpStorage;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.RecordWriterPort;
+import com.nexerp.domain.analytics.port.RecordWriterPort.RecordSink;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큰 테이블을 PK 구간으로 나눠 동시에 추출하고, 구간 순서대로 이어 붙여 한 파일로 씁니다.
+ * - 파티션 수는 PK 구간 크기(rowsPerPartition 기준)에 맞춰 정하며, 작은 테이블은 나누지 않음
+ * - 파티션마다 별도 쿼리(= 복제본 연결 하나)로 로컬 파티션 파일에 쓰고, 모두 성공하면 최종 출력으로 합침
+ * - 파티션은 analyticsPartitionExecutor 에서 실행 (테이블 작업 풀과 분리해 교착 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionedExportWriter {
+
+  private final LocalTmpStorage storage;
+  private final AnalyticsExportProperties props;
+  private final @Qualifier("analyticsPartitionExecutor") Executor analyticsPartitionExecutor;
+
+  /**
+   * plan 구간의 레코드를 writer 형식으로 out 에 쓰고 총 행 수를 반환합니다. (out 은 닫힘)
+   */
+  public long write(ExtractorPort extractor, ExportPlan plan, LocalDate date,
+    RecordWriterPort writer, OutputStream out) throws IOException {
+    return writeDates(extractor, plan, List.of(date), writer, List.of(out));
+  }
+
+  /**
+   * plan 구간을 한 번만 읽어 dates 의 날짜마다 같은 위치의 outs 에 씁니다. (outs 는 모두 닫힘)
+   * 날짜별 파일은 날짜 값만 다르므로 레코드 하나를 날짜 수만큼의 sink 에 차례로 기록 (스냅샷 백필: 날짜 N개 = 스캔 1번)
+   */
+  public long writeDates(ExtractorPort extractor, ExportPlan plan, List<LocalDate> dates,
+    RecordWriterPort writer, List<OutputStream> outs) throws IOException {
+    IdRange range = plan.range();
+    int partitions = props.partition().partitionsFor(range.span());
+
+    if (partitions <= 1) {
+      return writeRange(extractor, range, dates, writer, outs);
+    }
+
+    List<IdRange> ranges = range.split(partitions);
+    log.info("[AnalyticsExport] table={} partitions={} range={} dates={}", plan.table(),
+      ranges.size(), range, dates.size());
+
+    storage.ensureBaseDir();
+    // 파티션 i, 날짜 d 의 파일 (동시에 도는 다른 날짜 실행과 겹치지 않도록 첫 날짜를 이름에 포함)
+    String partPrefix = storage.resolveTemp(
+      storage.resolve(plan.table().filePrefix() + "--" + dates.get(0))) + ".part-";
+    List<List<Path>> partsByDate = new ArrayList<>(dates.size());
+    for (int d = 0; d < dates.size(); d++) {
+      partsByDate.add(new ArrayList<>(ranges.size()));
+    }
+    try {
+      List<CompletableFuture<Long>> futures = new ArrayList<>(ranges.size());
+      for (int i = 0; i < ranges.size(); i++) {
+        List<Path> parts = new ArrayList<>(dates.size());
+        for (int d = 0; d < dates.size(); d++) {
+          Path part = Path.of(partPrefix + i + (dates.size() > 1 ? "-" + d : ""));
+          parts.add(part);
+          partsByDate.get(d).add(part);
+        }
+        IdRange partRange = ranges.get(i);
+        futures.add(CompletableFuture.supplyAsync(
+          () -> writePart(extractor, partRange, dates, writer, parts), analyticsPartitionExecutor));
+      }
+
+      long rowCount = 0;
+      CompletionException firstFailure = null;
+      // 실패가 있어도 모든 파티션이 끝난 뒤 파일을 정리 (쓰는 중인 파일 삭제 방지)
+      for (CompletableFuture<Long> future : futures) {
+        try {
+          rowCount += future.join();
+        } catch (CompletionException e) {
+          if (firstFailure == null) {
+            firstFailure = e;
+          }
+        }
+      }
+      if (firstFailure != null) {
+        throw new IOException("파티션 추출 실패: table=" + plan.table(), firstFailure.getCause());
+      }
+
+      for (int d = 0; d < dates.size(); d++) {
+        writer.concat(partsByDate.get(d), extractor.columns(), outs.get(d));
+      }
+      return rowCount;
+
+    } finally {
+      for (List<Path> parts : partsByDate) {
+        for (Path part : parts) {
+          Files.deleteIfExists(part);
+        }
+      }
+    }
+  }
+
+  private long writePart(ExtractorPort extractor, IdRange range, List<LocalDate> dates,
+    RecordWriterPort writer, List<Path> parts) {
+    List<OutputStream> outs = new ArrayList<>(parts.size());
+    try {
+      for (Path part : parts) {
+        outs.add(Files.newOutputStream(part));
+      }
+      long start = System.nanoTime();
+      long rowCount = writeRange(extractor, range, dates, writer, outs);
+      log.debug("[AnalyticsExport] table={} partition={} rows={} elapsedMs={}", extractor.table(),
+        range, rowCount, (System.nanoTime() - start) / 1_000_000);
+      return rowCount;
+    } catch (IOException e) {
+      closeQuietly(outs);
+      throw new CompletionException(e);
+    }
+  }
+
+  // 날짜가 하나면 writer.write 그대로, 여러 개면 한 스트림의 레코드를 날짜별 sink 에 나눠 씀
+  private static long writeRange(ExtractorPort extractor, IdRange range, List<LocalDate> dates,
+    RecordWriterPort writer, List<OutputStream> outs) throws IOException {
+    if (dates.size() == 1) {
+      return writer.write(outs.get(0), extractor.columns(), dates.get(0),
+        extractor.extractRecords(range));
+    }
+
+    List<RecordSink> sinks = new ArrayList<>(dates.size());
+    try (Stream<? extends ExportRecord> records = extractor.extractRecords(range)) {
+      for (int d = 0; d < dates.size(); d++) {
+        sinks.add(writer.open(outs.get(d), extractor.columns(), dates.get(d)));
+      }
+
+      long count = 0;
+      var iterator = records.iterator();
+      while (iterator.hasNext()) {
+        ExportRecord record = iterator.next();
+        for (RecordSink sink : sinks) {
+          sink.write(record);
+        }
+        count++;
+      }
+
+      for (RecordSink sink : sinks) {
+        sink.close();
+      }
+      return count;
+
+    } catch (IOException | RuntimeException e) {
+      // 열지 못한 sink 의 out 까지 닫음 (부분 파일은 호출자가 삭제)
+      closeQuietly(sinks);
+      closeQuietly(outs);
+      if (e instanceof UncheckedIOException unchecked) {
+        throw unchecked.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(List<? extends Closeable> closeables) {
+    for (Closeable closeable : closeables) {
+      try {
+        closeable.close();
+      } catch (IOException | RuntimeException ignored) {
+        // 실패 경로의 정리라 무시
+      }
+    }
+  }
+}
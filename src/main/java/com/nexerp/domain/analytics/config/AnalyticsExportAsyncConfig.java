@@ -1,20 +1,35 @@
 package com.nexerp.domain.analytics.config;
 
+import com.nexerp.domain.analytics.domain.ExportThreadMode;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * 내보내기 작업 executor
+ * - PLATFORM: 용도별 고정 크기 스레드 풀, 풀 크기가 곧 동시 실행 수 상한
+ * - VIRTUAL: 용도별 가상 스레드 executor, 스레드 수 대신 자원 세마포어가 상한
+ *   (복제본 연결은 CursorQuery, S3 요청은 S3Storage 에서 threads.*-permits 만큼만 동시에 사용)
+ */
 @Configuration
 public class AnalyticsExportAsyncConfig {
 
+  // 테이블 추출 동시 실행 상한 (복제본 연결 풀 크기 계산에도 사용)
+  public static final int EXPORT_MAX_POOL_SIZE = 8;
+
   @Bean(name = "analyticsExportExecutor")
-  public Executor analyticsExportExecutor() {
+  public Executor analyticsExportExecutor(AnalyticsExportProperties props) {
+    if (isVirtual(props)) {
+      return virtualThreads("analytics-export-");
+    }
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     // 기본 스레드 수
     executor.setCorePoolSize(6);
     // 최대 스레드 수
-    executor.setMaxPoolSize(8);
+    executor.setMaxPoolSize(EXPORT_MAX_POOL_SIZE);
     // 대기 작업 큐
     executor.setQueueCapacity(100);
     // 스레드의 이름 접두사
@@ -24,4 +39,119 @@ public class AnalyticsExportAsyncConfig {
 
     return executor;
   }
+
+  @Bean(name = "s3PartUploadExecutor")
+  public Executor s3PartUploadExecutor(AnalyticsExportProperties props) {
+    if (isVirtual(props)) {
+      // 파일별 파트 버퍼 한도가 backpressure 역할을 하므로 큐 없이 바로 실행
+      return virtualThreads("s3-part-upload-");
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 파트 업로드는 네트워크 I/O 대기가 대부분
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(8);
+    // 파일별 버퍼 한도로 이미 backpressure 가 걸리므로 큐는 작게
+    executor.setQueueCapacity(32);
+    // 큐가 가득 차면 호출 스레드에서 직접 업로드 (거절 대신 자연스러운 감속)
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("s3-part-upload-");
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  @Bean(name = "s3FileUploadExecutor")
+  public Executor s3FileUploadExecutor(AnalyticsExportProperties props) {
+    if (isVirtual(props)) {
+      return virtualThreads("s3-file-upload-");
+    }
+    int concurrency = props.s3Upload().fileConcurrency();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 파일 단위 업로드/커밋 동시 실행 수 (파트 업로드는 s3PartUploadExecutor 에서)
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    // 회사별 레이아웃은 커밋 복사가 (테이블 x 회사) 만큼 한 번에 들어오므로 큐 크기를 제한하지 않음
+    // (작업은 키 한 쌍만 들고 있어 가벼움, 거절되면 커밋 도중 일부만 복사된 채 실패)
+    executor.setQueueCapacity(Integer.MAX_VALUE);
+    executor.setThreadNamePrefix("s3-file-upload-");
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  @Bean(name = "analyticsPartitionExecutor")
+  public Executor analyticsPartitionExecutor(AnalyticsExportProperties props) {
+    if (isVirtual(props)) {
+      // 파티션 쿼리 동시 실행 수는 복제본 세마포어가 제한 (테이블 작업과 같은 상한을 공유)
+      return virtualThreads("analytics-partition-");
+    }
+    int concurrency = props.partition().concurrency();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 테이블 작업(analyticsExportExecutor)이 파티션 완료를 기다리므로 같은 풀을 쓰면 교착될 수 있어 분리
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    // 동시에 분할되는 테이블 수 x 테이블당 최대 파티션 수만큼은 거절 없이 대기
+    executor.setQueueCapacity(
+      Math.max(100, EXPORT_MAX_POOL_SIZE * props.partition().maxPartitions()));
+    executor.setThreadNamePrefix("analytics-partition-");
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  @Bean(name = "analyticsRetentionExecutor")
+  public Executor analyticsRetentionExecutor(AnalyticsExportProperties props) {
+    if (isVirtual(props)) {
+      // 삭제 요청 동시 실행 수는 S3 요청 세마포어가 제한
+      return virtualThreads("analytics-retention-");
+    }
+    int concurrency = props.retention().deleteConcurrency();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 삭제 배치(최대 1000개) 단위 작업
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("analytics-retention-");
+    // 큐가 가득 차면 목록을 읽던 스레드에서 직접 삭제 (목록 읽기 속도를 삭제에 맞춤)
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  @Bean(name = "analyticsBackfillExecutor")
+  public Executor analyticsBackfillExecutor(AnalyticsExportProperties props) {
+    int concurrency = props.backfill().concurrency();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 날짜 묶음 단위 작업 (테이블은 analyticsExportExecutor 에서 실행하고 기다리므로 같은 풀을 쓰면 교착될 수 있어 분리)
+    // 풀 크기가 곧 동시 묶음 수 상한이므로 VIRTUAL 모드에서도 고정 풀
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    // 요청당 날짜 수가 maxDays 로 제한되고 작업은 날짜 목록만 들고 있어 큐 크기를 제한하지 않음
+    executor.setQueueCapacity(Integer.MAX_VALUE);
+    executor.setThreadNamePrefix("analytics-backfill-");
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  private static boolean isVirtual(AnalyticsExportProperties props) {
+    return props.threads().mode() == ExportThreadMode.VIRTUAL;
+  }
+
+  // 작업마다 가상 스레드 생성 (풀/큐 없음, 블로킹 I/O 대기 중에는 캐리어 스레드를 반납)
+  private static Executor virtualThreads(String threadNamePrefix) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    executor.setVirtualThreads(true);
+    return executor;
+  }
 }
@@ -1,6 +1,15 @@
 package com.nexerp.domain.analytics.config;
 
+import com.nexerp.domain.analytics.domain.ExportCompression;
+import com.nexerp.domain.analytics.domain.ExportFormat;
+import com.nexerp.domain.analytics.domain.ExportLayout;
+import com.nexerp.domain.analytics.domain.ExportPipeline;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportThreadMode;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 
 @ConfigurationProperties(prefix = "analytics.export")
 public record AnalyticsExportProperties(
@@ -9,7 +18,228 @@ public record AnalyticsExportProperties(
   // 제거 주기
   int retentionMonths,
   String s3Bucket,
-  String s3KeyPrefix
+  String s3KeyPrefix,
+  // LOCAL_STAGED: 로컬 tmp 후 업로드, DIRECT_S3: 추출과 동시에 S3 스트리밍
+  @DefaultValue("LOCAL_STAGED") ExportPipeline pipeline,
+  // 증분 내보내기 설정
+  @DefaultValue Incremental incremental,
+  // S3 멀티파트 업로드 설정
+  @DefaultValue S3Upload s3Upload,
+  // 테이블별 파일 형식 설정
+  @DefaultValue Format format,
+  // 추출 쿼리 스트리밍 설정
+  @DefaultValue Extract extract,
+  // 큰 테이블의 PK 구간 분할 병렬 추출 설정
+  @DefaultValue Partition partition,
+  // 읽기 복제본 연결 풀 설정
+  @DefaultValue Replica replica,
+  // 파일 배치 방식 (테이블당 한 파일 / 회사별 분할)
+  @DefaultValue Layout layout,
+  // 실패한 날짜를 남은 테이블만 이어서 다시 내보내는 시각
+  @DefaultValue("0 0 4 * * *") String resumeCron,
+  // 작업 스레드 종류와 자원별 동시 사용 상한
+  @DefaultValue Threads threads,
+  // 보관 기간(retentionMonths)이 지난 파일 삭제 설정
+  @DefaultValue Retention retention,
+  // 관리자 백필 (여러 날짜 스냅샷 다시 내보내기) 설정
+  @DefaultValue Backfill backfill,
+  // 비정규화 팩트 내보내기 (추출기 등록 여부라 @ConditionalOn* 에서 같은 키를 읽음)
+  @DefaultValue Facts facts,
+  // 복제본 지연/부하에 맞춘 추출 속도 조절
+  @DefaultValue ReplicaGuard replicaGuard
 ) {
 
+  // 동시에 복제본 연결을 잡는 추출 스트림 수 (연결 풀 크기 = 이 값 + 1)
+  public int replicaStreamLimit() {
+    if (threads.replicaPermits() > 0) {
+      return threads.replicaPermits();
+    }
+    return AnalyticsExportAsyncConfig.EXPORT_MAX_POOL_SIZE + partition.concurrency();
+  }
+
+  public record Threads(
+    // PLATFORM: 고정 크기 스레드 풀, VIRTUAL: 작업마다 가상 스레드
+    @DefaultValue("PLATFORM") ExportThreadMode mode,
+    // 동시 추출 스트림(복제본 연결) 수, 0 이면 테이블 작업 최대 스레드 + partition.concurrency
+    @DefaultValue("0") int replicaPermits,
+    // 동시에 진행 중인 S3 요청 수 (HTTP 연결 풀 50 보다 작게)
+    @DefaultValue("32") int s3Permits
+  ) {
+
+  }
+
+  public record Retention(
+    // 매일 하루치씩 지워 실행당 비용을 일정하게 유지
+    @DefaultValue("0 30 3 * * *") String cron,
+    // true 면 삭제 대상만 로그로 남기고 지우지 않음
+    @DefaultValue("false") boolean dryRun,
+    // 동시에 보내는 삭제 배치 수 (S3 DeleteObjects 1000개 / 로컬 파일 1000개 단위)
+    @DefaultValue("4") int deleteConcurrency,
+    // 한 번 실행에서 지우는 최대 파일 수, 남은 파일은 다음 실행에서 이어서
+    @DefaultValue("100000") int maxDeletesPerRun
+  ) {
+
+  }
+
+  public record ReplicaGuard(
+    // false 면 복제본 상태를 확인하지 않고 속도도 제한하지 않음
+    @DefaultValue("true") boolean enabled,
+    // 복제본 지연/부하 확인 주기(ms), 확인 사이에는 마지막 결과로 조절
+    @DefaultValue("5000") long checkIntervalMs,
+    // 복제 지연이 이 값(초) 이상이면 확인 주기마다 추출 속도를 절반으로
+    @DefaultValue("5") long lagThrottleSeconds,
+    // 복제 지연이 이 값(초) 이상이면 추출을 멈추고 lagThrottleSeconds 아래로 내려오면 재개
+    @DefaultValue("30") long lagPauseSeconds,
+    // 복제본 Threads_running 이 이 값 이상이면 속도를 줄임 (추출 쿼리 포함), 0 이면 보지 않음
+    @DefaultValue("0") long maxThreadsRunning,
+    // 전체 추출 속도 상한(행/초), 0 이면 복제본이 밀리기 전까지 제한 없음
+    @DefaultValue("0") long maxRowsPerSecond,
+    // 속도를 줄일 때의 하한(행/초)
+    @DefaultValue("1000") long minRowsPerSecond
+  ) {
+
+  }
+
+  public record Facts(
+    // inventory_item_fact / logistics_item_fact 추가 내보내기
+    @DefaultValue("false") boolean enabled,
+    // true 면 팩트에 포함된 inventory_item / logistics_item 은 따로 내보내지 않음 (복제본 스캔 감소)
+    @DefaultValue("false") boolean replaceItemTables
+  ) {
+
+  }
+
+  public record Backfill(
+    // 동시에 실행하는 날짜 묶음 수 (테이블 작업 풀과 복제본 연결 상한은 정기 실행과 공유)
+    @DefaultValue("2") int concurrency,
+    // 테이블 스캔 한 번으로 만드는 날짜 수 (동시에 여는 로컬 파일 수, Parquet 은 날짜마다 row group 버퍼)
+    @DefaultValue("7") int datesPerScan,
+    // 요청 하나로 내보낼 수 있는 최대 날짜 수
+    @DefaultValue("366") int maxDays
+  ) {
+
+  }
+
+  public record Layout(
+    // FLAT: 테이블당 파일 하나, COMPANY_PARTITIONED: <table>/company_id=<id>/date=<d>/part-N
+    @DefaultValue("FLAT") ExportLayout type,
+    // 회사 하나의 행이 이보다 많으면 다음 part 파일로 넘어감
+    @DefaultValue("1000000") long maxRowsPerPart
+  ) {
+
+  }
+
+  public record Replica(
+    // 풀에서 연결을 기다리는 최대 시간(ms)
+    @DefaultValue("30000") long connectionTimeoutMs,
+    // 내보내기 전 연결 미리 채우기 (idle-timeout 보다 짧게 앞서야 함)
+    @DefaultValue("0 55 1 * * *") String warmupCron,
+    // 유휴 연결 유지 시간(ms), 예열 후 02:00 까지 남아 있도록 예열 간격보다 길게
+    @DefaultValue("600000") long idleTimeoutMs
+  ) {
+
+  }
+
+  public record Partition(
+    // 파티션 하나가 맡는 PK 개수, 이보다 큰 테이블만 분할
+    @DefaultValue("1000000") long rowsPerPartition,
+    // 테이블 하나의 최대 파티션 수
+    @DefaultValue("4") int maxPartitions,
+    // 전체 테이블 합산 동시 파티션 쿼리 수 (복제본 연결 수 상한)
+    @DefaultValue("4") int concurrency
+  ) {
+
+    // 테이블 크기(PK 구간)에 맞춘 파티션 수
+    public int partitionsFor(long span) {
+      long partitions = (span + rowsPerPartition - 1) / rowsPerPartition;
+      return (int) Math.max(1, Math.min(maxPartitions, partitions));
+    }
+  }
+
+  public record Extract(
+    // true: 서버 측 커서(useCursorFetch)로 fetchSize 행씩, false: 드라이버 행 단위 스트리밍
+    @DefaultValue("true") boolean useCursorFetch,
+    // 한 번에 가져오는 최대 행 수
+    @DefaultValue("1000") int fetchSize,
+    // 테이블당 드라이버가 들고 있는 행 버퍼 상한(MB), fetchSize 를 이 안으로 줄임
+    @DefaultValue("8") int memoryCeilingMb,
+    // 테이블별 상한 (예: logistics-item: 4)
+    Map<ExportTable, Integer> tableMemoryCeilingMb
+  ) {
+
+    public int memoryCeilingMbFor(ExportTable table) {
+      if (tableMemoryCeilingMb == null) {
+        return memoryCeilingMb;
+      }
+      return tableMemoryCeilingMb.getOrDefault(table, memoryCeilingMb);
+    }
+  }
+
+  public record Format(
+    // tables 에 없는 테이블의 형식
+    @DefaultValue("CSV") ExportFormat defaultFormat,
+    // 테이블별 형식 (예: logistics-item: parquet)
+    Map<ExportTable, ExportFormat> tables,
+    // Parquet row group 크기(MB), row group 하나가 메모리에 쌓인 뒤 기록됨
+    @DefaultValue("32") int parquetRowGroupSizeMb,
+    // compression 에 없는 CSV 테이블의 스트리밍 압축
+    @DefaultValue("NONE") ExportCompression defaultCompression,
+    // 테이블별 압축 (예: logistics-item: zstd)
+    Map<ExportTable, ExportCompression> compression,
+    // zstd 압축 레벨 (1~22, 높을수록 느리고 작음)
+    @DefaultValue("3") int zstdLevel
+  ) {
+
+    public ExportFormat formatFor(ExportTable table) {
+      if (tables == null) {
+        return defaultFormat;
+      }
+      return tables.getOrDefault(table, defaultFormat);
+    }
+
+    // Parquet 는 자체 압축(SNAPPY)이 있으므로 항상 NONE
+    public ExportCompression compressionFor(ExportTable table) {
+      if (formatFor(table) != ExportFormat.CSV) {
+        return ExportCompression.NONE;
+      }
+      if (compression == null) {
+        return defaultCompression;
+      }
+      return compression.getOrDefault(table, defaultCompression);
+    }
+  }
+
+  public record Incremental(
+    // false 면 항상 전체 스냅샷
+    // 워터마크는 복제본의 MAX(id) 라서 더 작은 id 를 받고 늦게 커밋된 행은 워터마크 아래에 생김
+    // -> overlapIds 만큼 워터마크 앞을 다시 읽어 보완하고, 그보다 늦은 행은 다음 전체 스냅샷에 포함
+    @DefaultValue("false") boolean enabled,
+    // 전체 스냅샷으로 기준선을 다시 만드는 주기(일)
+    @DefaultValue("7") int fullSnapshotIntervalDays,
+    // DELTA 가 워터마크 이전부터 다시 읽는 PK 수 (이전 파일과 겹친 행은 소비자가 PK 로 중복 제거)
+    @DefaultValue("1000") long overlapIds
+  ) {
+
+  }
+
+  public record S3Upload(
+    // 파트 크기(MB), S3 최소 5MB
+    @DefaultValue("8") int partSizeMb,
+    // 파일 하나당 동시에 업로드 중인 파트 수 (메모리 상한 = 파트 크기 x (이 값 + 1))
+    @DefaultValue("4") int maxInFlightParts,
+    // 동시에 업로드/커밋하는 파일 수
+    @DefaultValue("4") int fileConcurrency,
+    // 파일당 최대 시도 횟수 (첫 시도 포함)
+    @DefaultValue("3") int maxAttempts,
+    // 첫 재시도 대기(ms), 이후 2배씩 증가
+    @DefaultValue("500") long initialBackoffMs,
+    // 이 크기를 넘는 객체는 CopyObject 대신 멀티파트 복사 (CopyObject 단일 요청 한도 5GB)
+    @DefaultValue("1024") int multipartCopyThresholdMb,
+    // 멀티파트 복사 파트 크기(MB)
+    @DefaultValue("256") int copyPartSizeMb,
+    // 업로드/복사 시 함께 보내는 체크섬 (S3 가 수신 시 검증, CRC32C | CRC32 | SHA256 | SHA1)
+    @DefaultValue("CRC32C") ChecksumAlgorithm checksumAlgorithm
+  ) {
+
+  }
 }
@@ -0,0 +1,96 @@
+package com.nexerp.domain.analytics.controller;
+
+import com.nexerp.domain.analytics.application.AnalyticsBackfillService;
+import com.nexerp.domain.analytics.model.request.BackfillRequest;
+import com.nexerp.domain.analytics.model.response.BackfillJobResponse;
+import com.nexerp.global.common.exception.BaseException;
+import com.nexerp.global.common.exception.GlobalErrorCode;
+import com.nexerp.global.common.response.BaseResponse;
+import com.nexerp.global.config.SwaggerConfig;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "분석 데이터 백필 API", description = "과거 날짜의 분석 데이터(S3 내보내기)를 다시 생성합니다.")
+@RestController
+@RequestMapping("/admin/analytics")
+@RequiredArgsConstructor
+@SecurityRequirement(name = SwaggerConfig.AT_SCHEME)
+public class AnalyticsBackfillController {
+
+  private final AnalyticsBackfillService backfillService;
+
+  @Operation(
+    summary = "분석 데이터 백필 시작 API",
+    description = """
+      from ~ to (포함) 날짜의 분석 데이터를 다시 내보냅니다. 작업은 비동기로 실행되며 jobId 로 진행 상황을 조회합니다.
+      - 날짜마다 현재 데이터의 FULL 스냅샷을 그 날짜로 기록합니다. (DB 에 과거 시점 데이터가 없음)
+      - 여러 날짜를 묶어 테이블마다 한 번만 읽고, 묶음 여러 개를 동시에 실행합니다.
+      - 어제 날짜까지, 한 번에 최대 analytics.export.backfill.max-days 일
+      """
+  )
+  @ApiResponses({
+    @ApiResponse(
+      responseCode = "200",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = BackfillJobResponse.class),
+        examples = @ExampleObject(
+          name = "성공 예시",
+          value = """
+            {
+                 "timestamp": "2026-02-01T05:10:11.120311Z",
+                 "isSuccess": true,
+                 "status": 200,
+                 "code": "SUCCESS",
+                 "message": "요청에 성공했습니다.",
+                 "result": {
+                     "jobId": "5b0e3c1c-7d0a-4a57-9d3c-0f1f0b8d2e11",
+                     "from": "2025-11-01",
+                     "to": "2026-01-31",
+                     "status": "RUNNING",
+                     "totalDates": 92,
+                     "committedDates": 0,
+                     "failedDates": 0,
+                     "failures": {}
+                 }
+             }
+            """
+        )
+      )
+    )
+  })
+  @PreAuthorize("hasPermission('MANAGEMENT', 'ALL')")
+  @PostMapping("/backfill")
+  public BaseResponse<BackfillJobResponse> startBackfill(
+    @Valid @RequestBody BackfillRequest request
+  ) {
+    return BaseResponse.success(BackfillJobResponse.from(
+      backfillService.start(request.getFrom(), request.getTo())));
+  }
+
+  @Operation(summary = "분석 데이터 백필 상태 조회 API",
+    description = "날짜별 커밋/실패 수와 실패 원인을 조회합니다. (서버 재시작 전까지 보관)")
+  @PreAuthorize("hasPermission('MANAGEMENT', 'ALL')")
+  @GetMapping("/backfill/{jobId}")
+  public BaseResponse<BackfillJobResponse> getBackfill(@PathVariable String jobId) {
+    return BaseResponse.success(backfillService.find(jobId)
+      .map(BackfillJobResponse::from)
+      .orElseThrow(() -> new BaseException(GlobalErrorCode.NOT_FOUND,
+        "백필 작업을 찾을 수 없습니다. jobId=" + jobId)));
+  }
+}
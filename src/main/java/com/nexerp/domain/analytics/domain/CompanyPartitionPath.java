@@ -0,0 +1,60 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+
+// 회사별 분할 파일 경로 규칙: <table>/company_id=<id>/date=<date>/part-<n>.<ext>[.gz|.zst]
+public record CompanyPartitionPath(String tableName, long companyId, LocalDate date,
+                                   ExportMode mode, int part, ExportFormat format,
+                                   ExportCompression compression) {
+
+  private static final String COMPANY_KEY = "company_id=";
+  private static final String DATE_KEY = "date=";
+  private static final String PART_PREFIX = "part-";
+
+  public String toPath() {
+    return tableName + mode.fileSuffix() + "/" + COMPANY_KEY + companyId + "/" + DATE_KEY + date
+      + "/" + PART_PREFIX + part + "." + format.extension() + compression.fileSuffix();
+  }
+
+  // 삭제 스케줄러에서 S3 키(prefix 제외)로부터 날짜를 읽을 때 사용
+  public static CompanyPartitionPath parse(String path) {
+    String[] segments = path.split("/");
+    if (segments.length != 4
+      || !segments[1].startsWith(COMPANY_KEY)
+      || !segments[2].startsWith(DATE_KEY)
+      || !segments[3].startsWith(PART_PREFIX)) {
+      throw new IllegalArgumentException("Not company partition path: " + path);
+    }
+
+    // 압축 접미사(.gz, .zst) 먼저 제거
+    ExportCompression compression = ExportCompression.fromFileName(segments[3]);
+    String fileName = segments[3].substring(0,
+      segments[3].length() - compression.fileSuffix().length());
+
+    // 지원하는 확장자(csv, parquet) 아니면 발생
+    ExportFormat format = null;
+    for (ExportFormat candidate : ExportFormat.values()) {
+      if (fileName.endsWith("." + candidate.extension())) {
+        format = candidate;
+      }
+    }
+    if (format == null) {
+      throw new IllegalArgumentException("Not export file: " + path);
+    }
+
+    // 증분 파일이면 접미사 제거
+    String table = segments[0];
+    ExportMode mode = ExportMode.FULL;
+    String deltaSuffix = ExportMode.DELTA.fileSuffix();
+    if (table.endsWith(deltaSuffix)) {
+      table = table.substring(0, table.length() - deltaSuffix.length());
+      mode = ExportMode.DELTA;
+    }
+
+    long companyId = Long.parseLong(segments[1].substring(COMPANY_KEY.length()));
+    LocalDate date = LocalDate.parse(segments[2].substring(DATE_KEY.length()));
+    int part = Integer.parseInt(fileName.substring(PART_PREFIX.length(),
+      fileName.length() - format.extension().length() - 1));
+    return new CompanyPartitionPath(table, companyId, date, mode, part, format, compression);
+  }
+}
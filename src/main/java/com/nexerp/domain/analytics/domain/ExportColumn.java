@@ -0,0 +1,33 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 컬럼 스키마 (이름 + 타입), CSV 헤더와 컬럼형 파일 스키마에 공통으로 사용
+public record ExportColumn(String name, ColumnType type, boolean dictionary) {
+
+  public enum ColumnType {
+    INT64,
+    DATE,
+    STRING
+  }
+
+  // 모든 파일의 첫 컬럼인 내보내기 기준일 (파일 내 값이 하나라 딕셔너리 인코딩)
+  public static ExportColumn exportDate() {
+    return new ExportColumn("date", ColumnType.DATE, true);
+  }
+
+  public static ExportColumn int64(String name) {
+    return new ExportColumn(name, ColumnType.INT64, false);
+  }
+
+  public static ExportColumn date(String name) {
+    return new ExportColumn(name, ColumnType.DATE, false);
+  }
+
+  public static ExportColumn string(String name) {
+    return new ExportColumn(name, ColumnType.STRING, false);
+  }
+
+  // 상태값처럼 종류가 적은 문자열 컬럼 (딕셔너리 인코딩)
+  public static ExportColumn category(String name) {
+    return new ExportColumn(name, ColumnType.STRING, true);
+  }
+}
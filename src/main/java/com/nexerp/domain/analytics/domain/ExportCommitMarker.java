@@ -0,0 +1,25 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+
+// 날짜의 모든 테이블이 커밋되었음을 알리는 빈 객체 (_SUCCESS--2026-01-05)
+// 소비자(Lambda)는 이 객체가 있는 날짜만 읽음
+public record ExportCommitMarker(LocalDate date) {
+
+  public static final String PREFIX = "_SUCCESS--";
+
+  public String toFileName() {
+    return PREFIX + date;
+  }
+
+  public static boolean isMarker(String fileName) {
+    return fileName.startsWith(PREFIX);
+  }
+
+  public static ExportCommitMarker parse(String fileName) {
+    if (!isMarker(fileName)) {
+      throw new IllegalArgumentException("Not commit marker: " + fileName);
+    }
+    return new ExportCommitMarker(LocalDate.parse(fileName.substring(PREFIX.length())));
+  }
+}
@@ -0,0 +1,33 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 파일 스트리밍 압축 (CSV 에만 적용, Parquet 는 페이지 단위로 자체 압축)
+public enum ExportCompression {
+
+  // 압축 없음 (기본)
+  NONE(""),
+  // 범용 gzip, 어디서나 풀 수 있음
+  GZIP(".gz"),
+  // gzip 보다 빠르고 압축률이 높음
+  ZSTD(".zst");
+
+  private final String fileSuffix;
+
+  ExportCompression(String fileSuffix) {
+    this.fileSuffix = fileSuffix;
+  }
+
+  // 형식 확장자 뒤에 붙는 접미사 (예: .csv.gz)
+  public String fileSuffix() {
+    return fileSuffix;
+  }
+
+  // 파일 이름 끝의 접미사로 압축 방식 판별
+  public static ExportCompression fromFileName(String fileName) {
+    for (ExportCompression compression : values()) {
+      if (compression != NONE && fileName.endsWith(compression.fileSuffix)) {
+        return compression;
+      }
+    }
+    return NONE;
+  }
+}
@@ -0,0 +1,39 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+// 보관 기간 판단용: 내보내기 파일 경로(prefix 제외)에서 데이터 날짜를 읽음
+// 파일(flat) / 회사별 part / 커밋 마커 / 매니페스트와, 그 임시 파일(.tmp-<uuid>)을 인식
+public final class ExportFileDate {
+
+  private static final String TEMP_SUFFIX = ".tmp-";
+
+  private ExportFileDate() {
+  }
+
+  // 규칙에 맞지 않는 경로는 빈 값 (삭제 대상에서 제외)
+  public static Optional<LocalDate> parse(String path) {
+    int tempIndex = path.indexOf(TEMP_SUFFIX);
+    String name = tempIndex < 0 ? path : path.substring(0, tempIndex);
+    try {
+      if (name.contains("/")) {
+        return Optional.of(CompanyPartitionPath.parse(name).date());
+      }
+      if (ExportCommitMarker.isMarker(name)) {
+        return Optional.of(ExportCommitMarker.parse(name).date());
+      }
+      if (ExportManifest.isManifest(name)) {
+        return Optional.of(ExportManifest.parseDate(name));
+      }
+      return Optional.of(ExportFileName.parse(name).date());
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  public static boolean isTemp(String path) {
+    return path.contains(TEMP_SUFFIX);
+  }
+}
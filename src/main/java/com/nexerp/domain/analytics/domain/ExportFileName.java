@@ -2,27 +2,53 @@ package com.nexerp.domain.analytics.domain;
 
 import java.time.LocalDate;
 
-// CSV 파일 이름 규칙
-public record ExportFileName(String tableName, LocalDate date) {
+// 내보내기 파일 이름 규칙
+public record ExportFileName(String tableName, LocalDate date, ExportMode mode,
+                             ExportFormat format, ExportCompression compression) {
 
   public static ExportFileName of(String tableName, LocalDate date) {
-    return new ExportFileName(tableName, date);
+    return of(tableName, date, ExportMode.FULL);
+  }
+
+  public static ExportFileName of(String tableName, LocalDate date, ExportMode mode) {
+    return of(tableName, date, mode, ExportFormat.CSV);
+  }
+
+  public static ExportFileName of(String tableName, LocalDate date, ExportMode mode,
+    ExportFormat format) {
+    return of(tableName, date, mode, format, ExportCompression.NONE);
+  }
+
+  public static ExportFileName of(String tableName, LocalDate date, ExportMode mode,
+    ExportFormat format, ExportCompression compression) {
+    return new ExportFileName(tableName, date, mode, format, compression);
   }
 
   public String toFileName() {
-    return tableName + "--" + date + ".csv";
+    return tableName + mode.fileSuffix() + "--" + date + "." + format.extension()
+      + compression.fileSuffix();
   }
 
   // 삭제 스케줄러(매월 1일에 2개월 전 삭제) 만들 때 사용
   public static ExportFileName parse(String fileName) {
 
-    // csv 파일 아니면 발생
-    if (!fileName.endsWith(".csv")) {
-      throw new IllegalArgumentException("Not csv: " + fileName);
+    // 압축 접미사(.gz, .zst) 먼저 제거
+    ExportCompression compression = ExportCompression.fromFileName(fileName);
+    String name = fileName.substring(0, fileName.length() - compression.fileSuffix().length());
+
+    // 지원하는 확장자(csv, parquet) 아니면 발생
+    ExportFormat format = null;
+    for (ExportFormat candidate : ExportFormat.values()) {
+      if (name.endsWith("." + candidate.extension())) {
+        format = candidate;
+      }
+    }
+    if (format == null) {
+      throw new IllegalArgumentException("Not export file: " + fileName);
     }
 
-    // 이름의 .csv 제거
-    String base = fileName.substring(0, fileName.length() - 4);
+    // 이름의 확장자 제거
+    String base = name.substring(0, name.length() - format.extension().length() - 1);
 
     // 구분자 -- 찾기
     int idx = base.lastIndexOf("--");
@@ -33,6 +59,14 @@ public record ExportFileName(String tableName, LocalDate date) {
     //테이블명/날짜 문자열 분리
     String table = base.substring(0, idx);
     String dateStr = base.substring(idx + 2);
-    return new ExportFileName(table, LocalDate.parse(dateStr));
+
+    // 증분 파일이면 접미사 제거
+    ExportMode mode = ExportMode.FULL;
+    String deltaSuffix = ExportMode.DELTA.fileSuffix();
+    if (table.endsWith(deltaSuffix)) {
+      table = table.substring(0, table.length() - deltaSuffix.length());
+      mode = ExportMode.DELTA;
+    }
+    return new ExportFileName(table, LocalDate.parse(dateStr), mode, format, compression);
   }
 }
@@ -0,0 +1,20 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 파일 형식
+public enum ExportFormat {
+
+  // 텍스트 CSV (기본)
+  CSV("csv"),
+  // 타입이 있는 컬럼형 파일 (딕셔너리 인코딩 + 압축)
+  PARQUET("parquet");
+
+  private final String extension;
+
+  ExportFormat(String extension) {
+    this.extension = extension;
+  }
+
+  public String extension() {
+    return extension;
+  }
+}
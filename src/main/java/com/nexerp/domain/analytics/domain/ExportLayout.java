@@ -0,0 +1,12 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 파일을 S3에 배치하는 방식
+public enum ExportLayout {
+
+  // 테이블당 파일 하나 (inventory--2026-01-05.csv)
+  FLAT,
+
+  // 회사별로 나눈 파일 (inventory/company_id=3/date=2026-01-05/part-0.csv)
+  // KPI 계산이 자기 회사 조각만 읽도록 company_id 기준으로 분할
+  COMPANY_PARTITIONED
+}
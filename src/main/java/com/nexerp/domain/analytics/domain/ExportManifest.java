@@ -0,0 +1,58 @@
+package com.nexerp.domain.analytics.domain;
+
+import com.nexerp.domain.analytics.domain.ExportColumn.ColumnType;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날짜별 내보내기 결과 요약 (_manifest--2026-01-05.json), 커밋 마커 직전에 기록
+ * 소비자는 파일을 다시 파싱하지 않고 파일 크기/SHA-256/행 수로 완전성을 검증합니다.
+ */
+public record ExportManifest(
+  // 매니페스트 형식이나 컬럼 구성이 바뀌면 올림
+  int schemaVersion,
+  String date,
+  String generatedAt,
+  ExportLayout layout,
+  List<TableEntry> tables
+) {
+
+  public static final int SCHEMA_VERSION = 1;
+
+  public static final String PREFIX = "_manifest--";
+  private static final String SUFFIX = ".json";
+
+  public static String fileName(LocalDate date) {
+    return PREFIX + date + SUFFIX;
+  }
+
+  public static boolean isManifest(String fileName) {
+    return fileName.startsWith(PREFIX) && fileName.endsWith(SUFFIX);
+  }
+
+  public static LocalDate parseDate(String fileName) {
+    if (!isManifest(fileName)) {
+      throw new IllegalArgumentException("Not manifest: " + fileName);
+    }
+    return LocalDate.parse(
+      fileName.substring(PREFIX.length(), fileName.length() - SUFFIX.length()));
+  }
+
+  public record TableEntry(
+    ExportTable table,
+    ExportMode mode,
+    long rowCount,
+    // 테이블 파일 크기 합 (압축 후 저장된 바이트)
+    long bytes,
+    // 추출 ~ S3 임시 키 업로드까지 걸린 시간
+    long elapsedMs,
+    List<ColumnEntry> columns,
+    List<ExportedFile> files
+  ) {
+
+  }
+
+  public record ColumnEntry(String name, ColumnType type) {
+
+  }
+}
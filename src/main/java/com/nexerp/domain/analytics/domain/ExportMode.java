@@ -0,0 +1,19 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 방식: 전체 스냅샷 / 워터마크 이후 증분
+public enum ExportMode {
+
+  FULL(""),
+  DELTA("_delta");
+
+  // 파일명 테이블 뒤에 붙는 접미사 (예: inventory_delta--2026-01-05.csv)
+  private final String fileSuffix;
+
+  ExportMode(String fileSuffix) {
+    this.fileSuffix = fileSuffix;
+  }
+
+  public String fileSuffix() {
+    return fileSuffix;
+  }
+}
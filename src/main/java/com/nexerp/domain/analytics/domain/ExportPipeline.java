@@ -0,0 +1,11 @@
+package com.nexerp.domain.analytics.domain;
+
+// 추출 결과를 S3까지 보내는 경로
+public enum ExportPipeline {
+
+  // 로컬 tmp 파일에 모두 쓴 뒤 S3로 업로드 (기존 방식)
+  LOCAL_STAGED,
+
+  // 추출하면서 S3 임시 키로 바로 스트리밍 업로드, 전체 성공 시 최종 키로 커밋
+  DIRECT_S3
+}
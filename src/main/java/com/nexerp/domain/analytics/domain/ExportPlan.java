@@ -0,0 +1,29 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+
+// 테이블 하나를 어떤 방식(FULL/DELTA), 어떤 PK 구간으로 내보낼지
+public record ExportPlan(
+  ExportTable table,
+  ExportMode mode,
+  IdRange range,
+  LocalDate fullSnapshotDate
+) {
+
+  public static ExportPlan full(ExportTable table, long maxId, LocalDate date) {
+    return new ExportPlan(table, ExportMode.FULL, IdRange.upTo(maxId), date);
+  }
+
+  // overlapIds: 워터마크 이전부터 다시 읽는 PK 수 (늦게 커밋된 작은 id 의 행 보완)
+  public static ExportPlan delta(ExportTable table, ExportWatermark watermark, long maxId,
+    long overlapIds) {
+    long afterId = Math.max(0L, watermark.lastExportedId() - overlapIds);
+    return new ExportPlan(table, ExportMode.DELTA, IdRange.between(afterId, maxId),
+      watermark.lastFullSnapshotDate());
+  }
+
+  // 내보내기 성공 후 저장할 다음 워터마크
+  public ExportWatermark nextWatermark() {
+    return new ExportWatermark(table, range.toId(), fullSnapshotDate);
+  }
+}
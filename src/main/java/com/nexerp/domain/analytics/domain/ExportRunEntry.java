@@ -0,0 +1,34 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 날짜별 내보내기 실행의 테이블 기록 (재실행 시 STAGED 테이블은 다시 추출하지 않음)
+public record ExportRunEntry(
+  LocalDate date,
+  ExportTable table,
+  ExportRunState state,
+  ExportMode mode,
+  long rowCount,
+  // 커밋 후 저장할 워터마크
+  ExportWatermark watermark,
+  List<ExportedFile> files,
+  // S3 임시 키 -> 최종 키 (커밋 대기)
+  Map<String, String> stagedKeys,
+  // 실패 원인 (FAILED 일 때만)
+  String error,
+  // 추출 ~ S3 임시 키 업로드 소요 시간 (매니페스트 기록용)
+  long elapsedMs
+) {
+
+  public static ExportRunEntry failed(LocalDate date, ExportTable table, String error) {
+    return new ExportRunEntry(date, table, ExportRunState.FAILED, null, 0, null, List.of(),
+      Map.of(), error, 0);
+  }
+
+  public ExportRunEntry withState(ExportRunState state) {
+    return new ExportRunEntry(date, table, state, mode, rowCount, watermark, files, stagedKeys,
+      error, elapsedMs);
+  }
+}
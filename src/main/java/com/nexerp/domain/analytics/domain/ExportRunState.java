@@ -0,0 +1,14 @@
+package com.nexerp.domain.analytics.domain;
+
+// 날짜별 내보내기 실행에서 테이블 하나의 진행 상태
+public enum ExportRunState {
+
+  // S3 임시 키까지 업로드 완료, 모든 테이블이 모이면 커밋
+  STAGED,
+
+  // 추출/업로드 실패, 다음 실행에서 이 테이블만 다시 내보냄
+  FAILED,
+
+  // 최종 키로 커밋 완료
+  COMMITTED
+}
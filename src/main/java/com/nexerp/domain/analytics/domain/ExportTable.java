@@ -7,7 +7,10 @@ public enum ExportTable {
   INVENTORY_ITEM("inventory_item"),
   LOGISTICS("logistics"),
   LOGISTICS_ITEM("logistics_item"),
-  ITEM("item");
+  ITEM("item"),
+  // 선택: 자식 테이블에 부모(입출고, 프로젝트, 품목) 컬럼을 붙인 비정규화 팩트 (analytics.export.facts)
+  INVENTORY_ITEM_FACT("inventory_item_fact"),
+  LOGISTICS_ITEM_FACT("logistics_item_fact");
 
   private final String filePrefix;
 
@@ -0,0 +1,11 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보내기 작업(테이블, 파티션, S3 업로드/커밋)을 실행하는 스레드 종류
+public enum ExportThreadMode {
+
+  // 고정 크기 스레드 풀, 풀 크기가 동시 실행 수 상한 (기존 방식)
+  PLATFORM,
+
+  // 작업마다 가상 스레드 (JDK 21), 동시 실행 수는 복제본/S3 세마포어로 제한
+  VIRTUAL
+}
@@ -0,0 +1,22 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// 테이블별 마지막으로 내보낸 PK와 마지막 전체 스냅샷 날짜
+public record ExportWatermark(
+  ExportTable table,
+  long lastExportedId,
+  LocalDate lastFullSnapshotDate
+) {
+
+  /**
+   * 전체 스냅샷이 다시 필요한지 판단합니다. - 전체 스냅샷 이력이 없거나 주기가 지난 경우 - 현재 최대 PK가 워터마크보다 작은 경우(테이블 초기화/복원)
+   */
+  public boolean needsFullSnapshot(LocalDate date, long currentMaxId, int intervalDays) {
+    if (lastFullSnapshotDate == null || currentMaxId < lastExportedId) {
+      return true;
+    }
+    return ChronoUnit.DAYS.between(lastFullSnapshotDate, date) >= intervalDays;
+  }
+}
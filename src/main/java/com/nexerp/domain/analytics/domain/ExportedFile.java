@@ -0,0 +1,6 @@
+package com.nexerp.domain.analytics.domain;
+
+// 내보낸 파일 하나 (이름, 크기, 기록하면서 계산한 SHA-256)
+public record ExportedFile(String fileName, long bytes, String sha256) {
+
+}
@@ -0,0 +1,39 @@
+package com.nexerp.domain.analytics.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// PK 구간 (afterId, toId] : afterId 초과 ~ toId 이하
+public record IdRange(long afterId, long toId) {
+
+  public static IdRange all() {
+    return new IdRange(0L, Long.MAX_VALUE);
+  }
+
+  public static IdRange upTo(long toId) {
+    return new IdRange(0L, toId);
+  }
+
+  public static IdRange between(long afterId, long toId) {
+    return new IdRange(afterId, toId);
+  }
+
+  // 구간 안의 PK 개수 상한 (PK 가 빠짐없이 채워져 있을 때의 행 수)
+  public long span() {
+    return toId - afterId;
+  }
+
+  // PK 순서대로 최대 parts 개의 연속 구간으로 나눔 (빈 구간은 만들지 않음)
+  public List<IdRange> split(int parts) {
+    long span = span();
+    if (parts <= 1 || span <= 1) {
+      return List.of(this);
+    }
+    long step = Math.max(1, (span + parts - 1) / parts);
+    List<IdRange> ranges = new ArrayList<>(parts);
+    for (long from = afterId; from < toId; from += step) {
+      ranges.add(new IdRange(from, Math.min(from + step, toId)));
+    }
+    return ranges;
+  }
+}
@@ -0,0 +1,17 @@
+package com.nexerp.domain.analytics.domain;
+
+// 복제본 상태 확인 결과 (확인할 수 없는 값은 null: 권한 없음, 복제 중지, 복제본이 아님)
+public record ReplicaHealth(Long lagSeconds, Long threadsRunning) {
+
+  public static ReplicaHealth unknown() {
+    return new ReplicaHealth(null, null);
+  }
+
+  public boolean lagAtLeast(long seconds) {
+    return lagSeconds != null && lagSeconds >= seconds;
+  }
+
+  public boolean threadsRunningAtLeast(long threads) {
+    return threadsRunning != null && threadsRunning >= threads;
+  }
+}
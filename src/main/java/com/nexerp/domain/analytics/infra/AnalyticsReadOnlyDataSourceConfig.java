@@ -1,5 +1,7 @@
 package com.nexerp.domain.analytics.infra;
 
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -13,6 +15,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 @Configuration
 public class AnalyticsReadOnlyDataSourceConfig {
 
+  // Micrometer hikaricp.* 메트릭의 pool 태그
+  public static final String POOL_NAME = "analytics-readonly";
+
   @Bean(name = "analyticsDataSourceProperties")
   @ConfigurationProperties(prefix = "analytics.datasource")
   public DataSourceProperties analyticsDataSourceProperties() {
@@ -21,18 +26,33 @@ public class AnalyticsReadOnlyDataSourceConfig {
 
   /**
    * ReadOnly 전용 DataSource 생성 - DataSourceProperties 기반으로 생성하면 url/username/password를 표준적으로 처리 가능
+   * - useCursorFetch: 추출 쿼리가 결과 전체를 메모리에 올리지 않고 서버 측 커서로 fetchSize 행씩 가져오도록 함
+   * - 풀 크기: 동시 추출 스트림 상한(replicaStreamLimit, 기본 테이블 작업 + 파티션 쿼리) + 여유 1 (maxId 조회, 예열, 복제본 상태 확인)
    */
   @Bean(name = "analyticsReadOnlyDataSource")
   public DataSource analyticsReadOnlyDataSource(
-    @Qualifier("analyticsDataSourceProperties") DataSourceProperties props
+    @Qualifier("analyticsDataSourceProperties") DataSourceProperties props,
+    AnalyticsExportProperties exportProps
   ) {
-    DataSource ds = props.initializeDataSourceBuilder().build();
+    HikariDataSource ds = props.initializeDataSourceBuilder()
+      .type(HikariDataSource.class)
+      .build();
+
+    int poolSize = exportProps.replicaStreamLimit() + 1;
 
-    if (ds instanceof com.zaxxer.hikari.HikariDataSource) {
-      ((com.zaxxer.hikari.HikariDataSource) ds).setReadOnly(true);
+    ds.setPoolName(POOL_NAME);
+    ds.setReadOnly(true);
+    ds.setMaximumPoolSize(poolSize);
+    // 평소에는 연결을 거의 잡지 않고, 예열 스케줄러가 내보내기 직전에 채움
+    ds.setMinimumIdle(1);
+    ds.setIdleTimeout(exportProps.replica().idleTimeoutMs());
+    ds.setConnectionTimeout(exportProps.replica().connectionTimeoutMs());
+    if (exportProps.extract().useCursorFetch()) {
+      ds.addDataSourceProperty("useCursorFetch", "true");
     }
 
-    log.info("[Analytics-ReadOnly] DataSource initialized. url={}", props.getUrl());
+    log.info("[Analytics-ReadOnly] DataSource initialized. url={} pool={} maxPoolSize={}",
+      props.getUrl(), POOL_NAME, poolSize);
     return ds;
   }
 
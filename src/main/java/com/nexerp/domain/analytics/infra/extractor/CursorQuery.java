@@ -0,0 +1,117 @@
+package com.nexerp.domain.analytics.infra.extractor;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추출 쿼리를 forward-only 커서로 스트리밍합니다.
+ * MySQL 드라이버 기본값은 결과 전체를 메모리에 올린 뒤에야 Stream 이 시작되므로,
+ * - useCursorFetch=true: 서버 측 커서로 fetchSize 행씩 가져옴 (데이터소스 설정과 함께 사용)
+ * - useCursorFetch=false: fetchSize=Integer.MIN_VALUE 로 드라이버 행 단위 스트리밍
+ * fetchSize 는 테이블별 메모리 상한 / 행 크기 추정치를 넘지 않도록 줄입니다.
+ * 동시에 열린 스트림은 replicaStreamLimit 개까지만 허용 (스트림 하나 = 복제본 연결 하나, 닫힐 때 반납)
+ * 가상 스레드 모드에서는 이 세마포어가 스레드 풀 대신 복제본 동시 쿼리 수를 제한합니다.
+ * 쿼리 시작 전과 행을 읽는 동안 ReplicaThrottle 로 복제본 지연/부하에 맞춰 속도를 조절합니다.
+ */
+@Slf4j
+@Component
+public class CursorQuery {
+
+  // 드라이버가 행마다 잡는 배열/객체 오버헤드 추정치
+  private static final int ROW_OVERHEAD_BYTES = 64;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AnalyticsExportProperties props;
+  private final AnalyticsExportMetrics metrics;
+  private final ReplicaThrottle throttle;
+  private final Semaphore streamPermits;
+
+  public CursorQuery(@Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate,
+    AnalyticsExportProperties props, AnalyticsExportMetrics metrics, ReplicaThrottle throttle) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.props = props;
+    this.metrics = metrics;
+    this.throttle = throttle;
+    this.streamPermits = new Semaphore(props.replicaStreamLimit());
+    metrics.bindReplicaPermits(streamPermits, props.replicaStreamLimit());
+  }
+
+  public <T> Stream<T> stream(ExportTable table, List<ExportColumn> columns, String sql,
+    RowMapper<T> rowMapper, Object... args) {
+    int fetchSize = fetchSizeFor(table, columns);
+    log.debug("[CursorQuery] table={} fetchSize={}", table, fetchSize);
+
+    // 복제본 지연으로 멈춘 동안에는 연결을 잡지 않고 기다림
+    throttle.awaitHealthy(table);
+
+    // 연결 풀 대기(connectionTimeout) 대신 여기서 순서를 기다림
+    long waitStart = System.nanoTime();
+    try {
+      streamPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("추출 스트림 대기 중 인터럽트: table=" + table, e);
+    }
+    long queryStart = System.nanoTime();
+    metrics.recordReplicaPermitWait(queryStart - waitStart);
+    // 행을 읽을 때마다 속도 조절 (커서에서 다음 행을 가져오는 스레드에서 대기)
+    ReplicaThrottle.Pacer pacer = throttle.pacer(table);
+    RowMapper<T> pacedRowMapper = (rs, rowNum) -> {
+      T row = rowMapper.mapRow(rs, rowNum);
+      pacer.onRow();
+      return row;
+    };
+    try {
+      // queryForStream 은 쿼리를 실행해 첫 결과를 받은 뒤 반환 (행은 이후 스트리밍)
+      Stream<T> stream = jdbcTemplate.queryForStream(con -> {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(fetchSize);
+        new ArgumentPreparedStatementSetter(args).setValues(ps);
+        return ps;
+      }, pacedRowMapper);
+      metrics.recordReplicaQuery(table, System.nanoTime() - queryStart);
+      return stream.onClose(streamPermits::release);
+    } catch (RuntimeException e) {
+      streamPermits.release();
+      throw e;
+    }
+  }
+
+  int fetchSizeFor(ExportTable table, List<ExportColumn> columns) {
+    AnalyticsExportProperties.Extract extract = props.extract();
+    if (!extract.useCursorFetch()) {
+      // MySQL Connector/J 행 단위 스트리밍 모드
+      return Integer.MIN_VALUE;
+    }
+    long ceilingBytes = (long) extract.memoryCeilingMbFor(table) * 1024 * 1024;
+    long rowsWithinCeiling = Math.max(1, ceilingBytes / estimatedRowBytes(columns));
+    return (int) Math.min(extract.fetchSize(), rowsWithinCeiling);
+  }
+
+  // 바이너리 프로토콜 기준 행 크기 추정 (문자열은 평균 길이 가정)
+  private static long estimatedRowBytes(List<ExportColumn> columns) {
+    long bytes = ROW_OVERHEAD_BYTES;
+    for (ExportColumn column : columns) {
+      bytes += switch (column.type()) {
+        case INT64 -> 8;
+        case DATE -> 12;
+        case STRING -> 32;
+      };
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,248 @@
+package com.nexerp.domain.analytics.infra.extractor;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
+import com.nexerp.domain.analytics.port.ReplicaHealthPort;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본 상태에 맞춰 전체 추출 속도를 조절합니다. (replica-guard)
+ * - 모든 추출 스트림이 행/초 토큰 버킷 하나를 공유 (rate 0 = 제한 없음)
+ * - check-interval 마다 복제본을 확인해 지연(lag-throttle-seconds) 또는 부하(max-threads-running)가
+ *   기준 이상이면 속도를 절반으로 줄이고, 정상이면 두 배씩 늘려 원래 속도(제한 없음)로 돌아감
+ * - 지연이 lag-pause-seconds 이상이면 새 쿼리 시작과 진행 중인 스트림을 모두 멈추고
+ *   지연이 lag-throttle-seconds 아래로 내려오면 재개
+ * 기다린 시간은 analytics.replica.throttle{table,reason} 으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class ReplicaThrottle {
+
+  // 스트림마다 이 행 수를 읽을 때마다 토큰을 한 번에 가져감 (행마다 잠금을 잡지 않도록)
+  static final int ROWS_PER_ACQUIRE = 500;
+
+  private final ReplicaHealthPort healthPort;
+  private final AnalyticsExportMetrics metrics;
+  private final AnalyticsExportProperties.ReplicaGuard guard;
+
+  // 가상 스레드 모드에서 캐리어 스레드를 붙잡지 않도록 synchronized 대신 사용
+  private final ReentrantLock lock = new ReentrantLock();
+  // 복제본 확인은 한 스레드만 (확인 쿼리 동안 다른 스트림은 기존 상태로 계속 진행)
+  private final AtomicBoolean probing = new AtomicBoolean();
+  private double rate;
+  private double tokens;
+  private long lastRefillNanos = System.nanoTime();
+  private volatile long lastCheckNanos;
+  private long rowsSinceCheck;
+  // 처음 속도를 줄이기 직전의 처리량 (max-rows-per-second 가 0 일 때 복귀 기준)
+  private double unthrottledRate;
+  private boolean paused;
+  private long pausedSinceNanos;
+
+  public ReplicaThrottle(ReplicaHealthPort healthPort, AnalyticsExportMetrics metrics,
+    AnalyticsExportProperties props) {
+    this.healthPort = healthPort;
+    this.metrics = metrics;
+    this.guard = props.replicaGuard();
+    this.rate = guard.maxRowsPerSecond();
+    this.tokens = rate;
+  }
+
+  /**
+   * 복제본이 멈춤 상태면 재개될 때까지 기다립니다. (추출 쿼리 시작 전, 연결을 잡기 전에 호출)
+   */
+  public void awaitHealthy(ExportTable table) {
+    if (!guard.enabled()) {
+      return;
+    }
+    long start = System.nanoTime();
+    if (waitWhilePaused()) {
+      metrics.recordReplicaThrottle(table, "lag_pause", System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * 추출 스트림 하나의 행 속도 조절기 (스트림 스레드 하나에서만 사용)
+   */
+  public Pacer pacer(ExportTable table) {
+    return new Pacer(table);
+  }
+
+  public final class Pacer {
+
+    private final ExportTable table;
+    private int pendingRows;
+
+    private Pacer(ExportTable table) {
+      this.table = table;
+    }
+
+    public void onRow() {
+      if (++pendingRows >= ROWS_PER_ACQUIRE) {
+        acquire(table, pendingRows);
+        pendingRows = 0;
+      }
+    }
+  }
+
+  void acquire(ExportTable table, int rows) {
+    if (!guard.enabled()) {
+      return;
+    }
+    long start = System.nanoTime();
+    boolean waitedForLag = waitWhilePaused();
+
+    long waitNanos;
+    lock.lock();
+    try {
+      rowsSinceCheck += rows;
+      waitNanos = reserve(rows);
+    } finally {
+      lock.unlock();
+    }
+    if (waitNanos > 0) {
+      sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos), (int) (waitNanos % 1_000_000));
+    }
+
+    if (waitedForLag) {
+      metrics.recordReplicaThrottle(table, "lag_pause", System.nanoTime() - start);
+    } else if (waitNanos > 0) {
+      metrics.recordReplicaThrottle(table, "rate", System.nanoTime() - start);
+    }
+  }
+
+  // 멈춤 상태가 풀릴 때까지 확인 주기마다 다시 확인, 기다렸으면 true
+  private boolean waitWhilePaused() {
+    boolean waited = false;
+    while (true) {
+      refreshIfDue();
+      lock.lock();
+      try {
+        if (!paused) {
+          return waited;
+        }
+      } finally {
+        lock.unlock();
+      }
+      waited = true;
+      sleep(guard.checkIntervalMs(), 0);
+    }
+  }
+
+  // 토큰을 미리 가져가고(음수 허용) 빚만큼 기다릴 시간을 돌려줌, 호출마다 순서대로 뒤로 밀림
+  private long reserve(int rows) {
+    if (rate <= 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    tokens = Math.min(rate, tokens + (now - lastRefillNanos) / 1e9 * rate);
+    lastRefillNanos = now;
+    tokens -= rows;
+    return tokens < 0 ? (long) (-tokens / rate * 1e9) : 0;
+  }
+
+  /**
+   * 확인 주기가 지났으면 복제본을 확인하고 결과를 반영합니다.
+   * 확인 쿼리(네트워크, 여유 연결 대기)는 잠금 밖에서 한 스레드만 실행하고 반영만 잠금 안에서 함
+   */
+  private void refreshIfDue() {
+    if (!checkDue() || !probing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      // 다른 스레드가 방금 확인을 끝냈을 수 있음
+      if (!checkDue()) {
+        return;
+      }
+      ReplicaHealth health = healthPort.probe();
+      lock.lock();
+      try {
+        apply(health);
+      } finally {
+        lock.unlock();
+      }
+    } finally {
+      probing.set(false);
+    }
+  }
+
+  private boolean checkDue() {
+    long last = lastCheckNanos;
+    return last == 0 || System.nanoTime() - last
+      >= TimeUnit.MILLISECONDS.toNanos(guard.checkIntervalMs());
+  }
+
+  private void apply(ReplicaHealth health) {
+    long now = System.nanoTime();
+    double observed = lastCheckNanos == 0 ? 0 : rowsSinceCheck / ((now - lastCheckNanos) / 1e9);
+    lastCheckNanos = now;
+    rowsSinceCheck = 0;
+
+    boolean lagging = health.lagAtLeast(guard.lagThrottleSeconds());
+    if (health.lagAtLeast(guard.lagPauseSeconds())) {
+      if (!paused) {
+        paused = true;
+        pausedSinceNanos = now;
+        log.warn("[ReplicaGuard] 복제 지연 {}s >= {}s, 추출을 멈춥니다.", health.lagSeconds(),
+          guard.lagPauseSeconds());
+      }
+    } else if (paused && !lagging) {
+      paused = false;
+      log.info("[ReplicaGuard] 복제 지연 {}s, 추출을 재개합니다. pausedMs={}", health.lagSeconds(),
+        TimeUnit.NANOSECONDS.toMillis(now - pausedSinceNanos));
+    }
+
+    boolean busy = guard.maxThreadsRunning() > 0
+      && health.threadsRunningAtLeast(guard.maxThreadsRunning());
+    if (lagging || busy) {
+      slowDown(observed, health);
+    } else if (rate > 0) {
+      speedUp();
+    }
+    metrics.recordReplicaHealth(health, rate);
+  }
+
+  private void slowDown(double observed, ReplicaHealth health) {
+    if (rate <= 0) {
+      unthrottledRate = observed;
+    }
+    double base = rate > 0 ? rate : observed;
+    double next = Math.max(guard.minRowsPerSecond(), base / 2);
+    if (next != rate) {
+      log.info("[ReplicaGuard] 추출 속도 {} -> {} rows/s (lag={}s threadsRunning={})",
+        Math.round(rate), Math.round(next), health.lagSeconds(), health.threadsRunning());
+    }
+    rate = next;
+    tokens = Math.min(tokens, rate);
+  }
+
+  private void speedUp() {
+    double next = rate * 2;
+    if (guard.maxRowsPerSecond() > 0) {
+      next = Math.min(next, guard.maxRowsPerSecond());
+    } else if (next >= unthrottledRate) {
+      // 속도를 줄이기 전 처리량을 넘으면 제한 해제
+      next = 0;
+    }
+    if (next != rate) {
+      log.info("[ReplicaGuard] 추출 속도 {} -> {} rows/s", Math.round(rate),
+        next > 0 ? Math.round(next) : "unlimited");
+    }
+    rate = next;
+  }
+
+  private static void sleep(long millis, int nanos) {
+    try {
+      Thread.sleep(millis, nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("복제본 속도 조절 대기 중 인터럽트", e);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.nexerp.domain.analytics.infra.extractor.fact;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import com.nexerp.domain.analytics.port.CompanyRecord;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입고 품목 팩트: inventory_item 한 행에 입고(inventory), 프로젝트(project), 품목(item) 컬럼을 붙여 내보냅니다.
+ * - inventory_item PK 순서로 한 번만 훑고 부모는 PK 조회로 붙이므로 복제본 스캔은 자식 테이블 한 번
+ * - Lambda 는 inventory / inventory_item / project / item 을 다시 조인하지 않고 이 파일만 읽으면 됨
+ * - PK 구간은 inventory_item 기준이라 증분/파티션 분할은 자식 테이블과 같음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "analytics.export.facts", name = "enabled", havingValue = "true")
+public class InventoryItemFactExtractor implements ExtractorPort {
+
+  private static final String SELECT = """
+    SELECT ii.inventory_item_id,
+           ii.inventory_id,
+           ii.item_id,
+           i.project_id,
+           p.company_id,
+           i.inventory_status,
+           i.inventory_created_at,
+           i.inventory_completed_at,
+           p.project_status,
+           it.item_quantity,
+           it.safety_stock,
+           it.company_id AS partition_company_id
+    FROM inventory_item ii
+    """;
+
+  private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
+
+  @Override
+  public ExportTable table() {
+    return ExportTable.INVENTORY_ITEM_FACT;
+  }
+
+  @Override
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("inventory_item_id"),
+      ExportColumn.int64("inventory_id"),
+      ExportColumn.int64("item_id"),
+      ExportColumn.int64("project_id"),
+      ExportColumn.int64("company_id"),
+      ExportColumn.category("inventory_status"),
+      ExportColumn.date("inventory_created_at"),
+      ExportColumn.date("inventory_completed_at"),
+      ExportColumn.category("project_status"),
+      ExportColumn.int64("item_quantity"),
+      ExportColumn.int64("safety_stock")
+    );
+  }
+
+  @Override
+  public Stream<InventoryItemFactRow> extractRecords(IdRange range) {
+    // 자식 행은 부모가 없어도 모두 내보냄 (inventory_item 파일과 행 수가 같음)
+    String sql = SELECT + """
+      LEFT JOIN inventory i ON i.inventory_id = ii.inventory_id
+      LEFT JOIN project p ON p.project_id = i.project_id
+      LEFT JOIN item it ON it.item_id = ii.item_id
+      WHERE ii.inventory_item_id > ? AND ii.inventory_item_id <= ?
+      ORDER BY ii.inventory_item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    // inventory_item 파일과 같은 파티션이 되도록 품목의 회사로 결정 (replace-item-tables 로 바꿔도 폴더가 같음)
+    // 부모/품목이 없어도 모두 내보냄 (품목이 없으면 NO_COMPANY 파티션)
+    String sql = SELECT + """
+      LEFT JOIN inventory i ON i.inventory_id = ii.inventory_id
+      LEFT JOIN project p ON p.project_id = i.project_id
+      LEFT JOIN item it ON it.item_id = ii.item_id
+      WHERE ii.inventory_item_id > ? AND ii.inventory_item_id <= ?
+      ORDER BY it.company_id, ii.inventory_item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("partition_company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(inventory_item_id), 0) FROM inventory_item", Long.class);
+    return maxId != null ? maxId : 0L;
+  }
+
+  private InventoryItemFactRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
+    return new InventoryItemFactRow(
+      rs.getLong("inventory_item_id"),
+      rs.getLong("inventory_id"),
+      rs.getLong("item_id"),
+      rs.getObject("project_id", Long.class),
+      rs.getObject("company_id", Long.class),
+      rs.getString("inventory_status"),
+      JdbcDateConverters.toLocalDate(rs.getTimestamp("inventory_created_at")),
+      JdbcDateConverters.toLocalDate(rs.getTimestamp("inventory_completed_at")),
+      rs.getString("project_status"),
+      rs.getObject("item_quantity", Long.class),
+      rs.getObject("safety_stock", Long.class)
+    );
+  }
+}
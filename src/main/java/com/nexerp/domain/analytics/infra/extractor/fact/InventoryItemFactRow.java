@@ -0,0 +1,55 @@
+package com.nexerp.domain.analytics.infra.extractor.fact;
+
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
+import java.time.LocalDate;
+
+// 부모 행이 없으면(LEFT JOIN) 부모 컬럼은 null
+public record InventoryItemFactRow(
+  long inventoryItemId,
+  long inventoryId,
+  long itemId,
+  Long projectId,
+  Long companyId,
+  String inventoryStatus,
+  LocalDate inventoryCreatedAt,
+  LocalDate inventoryCompletedAt,
+  String projectStatus,
+  Long itemQuantity,
+  Long safetyStock
+) implements ExportRecord {
+
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(inventoryItemId);
+    sink.int64(inventoryId);
+    sink.int64(itemId);
+    sink.nullableInt64(projectId);
+    sink.nullableInt64(companyId);
+    sink.string(inventoryStatus);
+    sink.date(inventoryCreatedAt);
+    sink.date(inventoryCompletedAt);
+    sink.string(projectStatus);
+    sink.nullableInt64(itemQuantity);
+    sink.nullableInt64(safetyStock);
+  }
+
+  @Override
+  public String[] toCsvArray(LocalDate exportDate) {
+    return new String[]{
+      exportDate.toString(),
+      String.valueOf(inventoryItemId),
+      String.valueOf(inventoryId),
+      String.valueOf(itemId),
+      projectId != null ? projectId.toString() : "",
+      companyId != null ? companyId.toString() : "",
+      inventoryStatus != null ? inventoryStatus : "",
+      inventoryCreatedAt != null ? inventoryCreatedAt.toString() : "",
+      inventoryCompletedAt != null ? inventoryCompletedAt.toString() : "",
+      projectStatus != null ? projectStatus : "",
+      itemQuantity != null ? itemQuantity.toString() : "",
+      safetyStock != null ? safetyStock.toString() : ""
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package com.nexerp.domain.analytics.infra.extractor.fact;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import com.nexerp.domain.analytics.port.CompanyRecord;
+import com.nexerp.domain.analytics.port.ExtractorPort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출하 품목 팩트: logistics_item 한 행에 출하(logistics), 프로젝트(project), 품목(item) 컬럼을 붙여 내보냅니다.
+ * (스캔/조인 방식은 InventoryItemFactExtractor 와 같음)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "analytics.export.facts", name = "enabled", havingValue = "true")
+public class LogisticsItemFactExtractor implements ExtractorPort {
+
+  private static final String SELECT = """
+    SELECT li.logistics_item_id,
+           li.logistics_id,
+           li.item_id,
+           li.logistics_processed_quantity,
+           l.project_id,
+           p.company_id,
+           l.logistics_status,
+           l.logistic_created_at,
+           l.logistics_completed_at,
+           p.project_status,
+           it.item_quantity,
+           it.safety_stock,
+           it.company_id AS partition_company_id
+    FROM logistics_item li
+    """;
+
+  private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
+
+  @Override
+  public ExportTable table() {
+    return ExportTable.LOGISTICS_ITEM_FACT;
+  }
+
+  @Override
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("logistics_item_id"),
+      ExportColumn.int64("logistics_id"),
+      ExportColumn.int64("item_id"),
+      ExportColumn.int64("logistics_processed_quantity"),
+      ExportColumn.int64("project_id"),
+      ExportColumn.int64("company_id"),
+      ExportColumn.category("logistics_status"),
+      ExportColumn.date("logistic_created_at"),
+      ExportColumn.date("logistics_completed_at"),
+      ExportColumn.category("project_status"),
+      ExportColumn.int64("item_quantity"),
+      ExportColumn.int64("safety_stock")
+    );
+  }
+
+  @Override
+  public Stream<LogisticsItemFactRow> extractRecords(IdRange range) {
+    // 자식 행은 부모가 없어도 모두 내보냄 (logistics_item 파일과 행 수가 같음)
+    String sql = SELECT + """
+      LEFT JOIN logistics l ON l.logistics_id = li.logistics_id
+      LEFT JOIN project p ON p.project_id = l.project_id
+      LEFT JOIN item it ON it.item_id = li.item_id
+      WHERE li.logistics_item_id > ? AND li.logistics_item_id <= ?
+      ORDER BY li.logistics_item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    // logistics_item 파일과 같은 파티션이 되도록 품목의 회사로 결정 (replace-item-tables 로 바꿔도 폴더가 같음)
+    // 부모/품목이 없어도 모두 내보냄 (품목이 없으면 NO_COMPANY 파티션)
+    String sql = SELECT + """
+      LEFT JOIN logistics l ON l.logistics_id = li.logistics_id
+      LEFT JOIN project p ON p.project_id = l.project_id
+      LEFT JOIN item it ON it.item_id = li.item_id
+      WHERE li.logistics_item_id > ? AND li.logistics_item_id <= ?
+      ORDER BY it.company_id, li.logistics_item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("partition_company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(logistics_item_id), 0) FROM logistics_item", Long.class);
+    return maxId != null ? maxId : 0L;
+  }
+
+  private LogisticsItemFactRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
+    return new LogisticsItemFactRow(
+      rs.getLong("logistics_item_id"),
+      rs.getLong("logistics_id"),
+      rs.getLong("item_id"),
+      rs.getLong("logistics_processed_quantity"),
+      rs.getObject("project_id", Long.class),
+      rs.getObject("company_id", Long.class),
+      rs.getString("logistics_status"),
+      JdbcDateConverters.toLocalDate(rs.getDate("logistic_created_at")),
+      JdbcDateConverters.toLocalDate(rs.getTimestamp("logistics_completed_at")),
+      rs.getString("project_status"),
+      rs.getObject("item_quantity", Long.class),
+      rs.getObject("safety_stock", Long.class)
+    );
+  }
+}
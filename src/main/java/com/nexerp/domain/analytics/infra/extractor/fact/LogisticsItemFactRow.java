@@ -0,0 +1,58 @@
+package com.nexerp.domain.analytics.infra.extractor.fact;
+
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
+import java.time.LocalDate;
+
+// 부모 행이 없으면(LEFT JOIN) 부모 컬럼은 null
+public record LogisticsItemFactRow(
+  long logisticsItemId,
+  long logisticsId,
+  long itemId,
+  long processedQuantity,
+  Long projectId,
+  Long companyId,
+  String logisticsStatus,
+  LocalDate logisticsCreatedAt,
+  LocalDate logisticsCompletedAt,
+  String projectStatus,
+  Long itemQuantity,
+  Long safetyStock
+) implements ExportRecord {
+
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(logisticsItemId);
+    sink.int64(logisticsId);
+    sink.int64(itemId);
+    sink.int64(processedQuantity);
+    sink.nullableInt64(projectId);
+    sink.nullableInt64(companyId);
+    sink.string(logisticsStatus);
+    sink.date(logisticsCreatedAt);
+    sink.date(logisticsCompletedAt);
+    sink.string(projectStatus);
+    sink.nullableInt64(itemQuantity);
+    sink.nullableInt64(safetyStock);
+  }
+
+  @Override
+  public String[] toCsvArray(LocalDate exportDate) {
+    return new String[]{
+      exportDate.toString(),
+      String.valueOf(logisticsItemId),
+      String.valueOf(logisticsId),
+      String.valueOf(itemId),
+      String.valueOf(processedQuantity),
+      projectId != null ? projectId.toString() : "",
+      companyId != null ? companyId.toString() : "",
+      logisticsStatus != null ? logisticsStatus : "",
+      logisticsCreatedAt != null ? logisticsCreatedAt.toString() : "",
+      logisticsCompletedAt != null ? logisticsCompletedAt.toString() : "",
+      projectStatus != null ? projectStatus : "",
+      itemQuantity != null ? itemQuantity.toString() : "",
+      safetyStock != null ? safetyStock.toString() : ""
+    };
+  }
+}
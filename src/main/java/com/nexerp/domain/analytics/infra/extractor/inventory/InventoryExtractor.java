@@ -1,24 +1,27 @@
 package com.nexerp.domain.analytics.infra.extractor.inventory;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
 import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import com.nexerp.domain.analytics.port.CompanyRecord;
 import com.nexerp.domain.analytics.port.ExtractorPort;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class InventoryExtractor implements ExtractorPort {
 
   private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
 
   @Override
   public ExportTable table() {
@@ -26,26 +29,19 @@ public class InventoryExtractor implements ExtractorPort {
   }
 
   @Override
-  public String[] header() {
-    return new String[]{
-      "date",
-      "inventory_id",
-      "project_id",
-      "inventory_created_at",
-      "inventory_status",
-      "inventory_completed_at"
-    };
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("inventory_id"),
+      ExportColumn.int64("project_id"),
+      ExportColumn.date("inventory_created_at"),
+      ExportColumn.category("inventory_status"),
+      ExportColumn.date("inventory_completed_at")
+    );
   }
 
   @Override
-  public Stream<String[]> extractRows(LocalDate date) {
-    try (java.sql.Connection conn = jdbcTemplate.getDataSource().getConnection()) {
-      String dbUrl = conn.getMetaData().getURL();
-      log.info("[InventoryExtractor] Using DB URL: {}", dbUrl);
-    } catch (Exception e) {
-      log.warn("[InventoryExtractor] Failed to retrieve DB URL for logging: {}", e.getMessage());
-    }
-
+  public Stream<InventoryRow> extractRecords(IdRange range) {
     String sql = """
       SELECT inventory_id,
              project_id,
@@ -53,11 +49,41 @@ public class InventoryExtractor implements ExtractorPort {
              inventory_status,
              inventory_completed_at
       FROM inventory
+      WHERE inventory_id > ? AND inventory_id <= ?
       ORDER BY inventory_id
       """;
 
-    return jdbcTemplate.queryForStream(sql, this::mapToRow)
-      .map(row -> row.toCsvArray(date));
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    // 프로젝트를 거쳐 회사 결정 (프로젝트가 없으면 NO_COMPANY 파티션, FLAT 과 행 수가 같음)
+    String sql = """
+      SELECT i.inventory_id,
+             i.project_id,
+             i.inventory_created_at,
+             i.inventory_status,
+             i.inventory_completed_at,
+             p.company_id
+      FROM inventory i
+      LEFT JOIN project p ON p.project_id = i.project_id
+      WHERE i.inventory_id > ? AND i.inventory_id <= ?
+      ORDER BY p.company_id, i.inventory_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(inventory_id), 0) FROM inventory", Long.class);
+    return maxId != null ? maxId : 0L;
   }
 
   private InventoryRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
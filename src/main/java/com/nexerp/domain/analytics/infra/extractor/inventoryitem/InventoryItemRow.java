@@ -1,5 +1,7 @@
 package com.nexerp.domain.analytics.infra.extractor.inventoryitem;
 
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
 import java.time.LocalDate;
 
 public record InventoryItemRow(
@@ -7,7 +9,16 @@ public record InventoryItemRow(
   long itemId,
   long inventoryId
 
-) {
+) implements ExportRecord {
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(inventoryItemId);
+    sink.int64(itemId);
+    sink.int64(inventoryId);
+  }
+
+  @Override
   public String[] toCsvArray(LocalDate exportDate) {
     return new String[] {
       exportDate.toString(),
@@ -1,10 +1,14 @@
 package com.nexerp.domain.analytics.infra.extractor.item;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.port.CompanyRecord;
 import com.nexerp.domain.analytics.port.ExtractorPort;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class ItemExtractor implements ExtractorPort {
 
   private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
 
   @Override
   public ExportTable table() {
@@ -23,27 +28,53 @@ public class ItemExtractor implements ExtractorPort {
   }
 
   @Override
-  public String[] header() {
-    return new String[]{
-      "date",
-      "item_id",
-      "item_quantity",
-      "safety_stock"
-    };
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("item_id"),
+      ExportColumn.int64("item_quantity"),
+      ExportColumn.int64("safety_stock")
+    );
   }
 
   @Override
-  public Stream<String[]> extractRows(LocalDate date) {
+  public Stream<ItemRow> extractRecords(IdRange range) {
     String sql = """
       SELECT item_id,
              item_quantity,
              safety_stock
       FROM item
+      WHERE item_id > ? AND item_id <= ?
       ORDER BY item_id
       """;
 
-    return jdbcTemplate.queryForStream(sql, this::mapToRow)
-      .map(row -> row.toCsvArray(date));
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    String sql = """
+      SELECT item_id,
+             item_quantity,
+             safety_stock,
+             company_id
+      FROM item
+      WHERE item_id > ? AND item_id <= ?
+      ORDER BY company_id, item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(item_id), 0) FROM item", Long.class);
+    return maxId != null ? maxId : 0L;
   }
 
   private ItemRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
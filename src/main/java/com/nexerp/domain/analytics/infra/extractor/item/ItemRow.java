@@ -1,13 +1,24 @@
 package com.nexerp.domain.analytics.infra.extractor.item;
 
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
 import java.time.LocalDate;
 
 public record ItemRow(
   long itemId,
   Long itemQuantity,
   Long safetyStock
-) {
+) implements ExportRecord {
 
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(itemId);
+    sink.nullableInt64(itemQuantity);
+    sink.nullableInt64(safetyStock);
+  }
+
+  @Override
   public String[] toCsvArray(LocalDate exportDate) {
     return new String[]{
       exportDate.toString(),
@@ -1,11 +1,15 @@
 package com.nexerp.domain.analytics.infra.extractor.logistics;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
 import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import com.nexerp.domain.analytics.port.CompanyRecord;
 import com.nexerp.domain.analytics.port.ExtractorPort;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -17,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class LogisticsExtractor implements ExtractorPort {
 
   private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
 
   @Override
   public ExportTable table() {
@@ -24,19 +29,19 @@ public class LogisticsExtractor implements ExtractorPort {
   }
 
   @Override
-  public String[] header() {
-    return new String[]{
-      "date",
-      "logistics_id",
-      "project_id",
-      "logistic_created_at",
-      "logistics_status",
-      "logistics_completed_at"
-    };
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("logistics_id"),
+      ExportColumn.int64("project_id"),
+      ExportColumn.date("logistic_created_at"),
+      ExportColumn.category("logistics_status"),
+      ExportColumn.date("logistics_completed_at")
+    );
   }
 
   @Override
-  public Stream<String[]> extractRows(LocalDate date) {
+  public Stream<LogisticsRow> extractRecords(IdRange range) {
     String sql = """
       SELECT logistics_id,
              project_id,
@@ -44,11 +49,41 @@ public class LogisticsExtractor implements ExtractorPort {
              logistics_status,
              logistics_completed_at
       FROM logistics
+      WHERE logistics_id > ? AND logistics_id <= ?
       ORDER BY logistics_id
       """;
 
-    return jdbcTemplate.queryForStream(sql, this::mapToRow)
-      .map(row -> row.toCsvArray(date));
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    // 프로젝트를 거쳐 회사 결정 (프로젝트가 없으면 NO_COMPANY 파티션, FLAT 과 행 수가 같음)
+    String sql = """
+      SELECT l.logistics_id,
+             l.project_id,
+             l.logistic_created_at,
+             l.logistics_status,
+             l.logistics_completed_at,
+             p.company_id
+      FROM logistics l
+      LEFT JOIN project p ON p.project_id = l.project_id
+      WHERE l.logistics_id > ? AND l.logistics_id <= ?
+      ORDER BY p.company_id, l.logistics_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(logistics_id), 0) FROM logistics", Long.class);
+    return maxId != null ? maxId : 0L;
   }
 
   private LogisticsRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
@@ -1,5 +1,7 @@
 package com.nexerp.domain.analytics.infra.extractor.logistics;
 
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
 import java.time.LocalDate;
 
 public record LogisticsRow(
@@ -8,8 +10,19 @@ public record LogisticsRow(
   LocalDate createdAt,
   String status,
   LocalDate completedAt
-) {
+) implements ExportRecord {
 
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(logisticsId);
+    sink.int64(projectId);
+    sink.date(createdAt);
+    sink.string(status);
+    sink.date(completedAt);
+  }
+
+  @Override
   public String[] toCsvArray(LocalDate exportDate) {
     return new String[]{
       exportDate.toString(),
@@ -1,21 +1,30 @@
 package com.nexerp.domain.analytics.infra.extractor.logisticsitem;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.port.CompanyRecord;
 import com.nexerp.domain.analytics.port.ExtractorPort;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+// 팩트가 자식 테이블 컬럼을 모두 포함하므로 facts.replace-item-tables 면 따로 스캔하지 않음
+@ConditionalOnExpression("!${analytics.export.facts.enabled:false}"
+  + " or !${analytics.export.facts.replace-item-tables:false}")
 public class LogisticsItemExtractor implements ExtractorPort {
 
   private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
 
   @Override
   public ExportTable table() {
@@ -23,29 +32,58 @@ public class LogisticsItemExtractor implements ExtractorPort {
   }
 
   @Override
-  public String[] header() {
-    return new String[]{
-      "date",
-      "logistics_item_id",
-      "item_id",
-      "logistics_id",
-      "logistics_processed_quantity"
-    };
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("logistics_item_id"),
+      ExportColumn.int64("item_id"),
+      ExportColumn.int64("logistics_id"),
+      ExportColumn.int64("logistics_processed_quantity")
+    );
   }
 
   @Override
-  public Stream<String[]> extractRows(LocalDate date) {
+  public Stream<LogisticsItemRow> extractRecords(IdRange range) {
     String sql = """
       SELECT logistics_item_id,
              item_id,
              logistics_id,
              logistics_processed_quantity
       FROM logistics_item
+      WHERE logistics_item_id > ? AND logistics_item_id <= ?
       ORDER BY logistics_item_id
       """;
 
-    return jdbcTemplate.queryForStream(sql, this::mapToRow)
-      .map(row -> row.toCsvArray(date));
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    // 품목을 거쳐 회사 결정 (품목이 없으면 NO_COMPANY 파티션, FLAT 과 행 수가 같음)
+    String sql = """
+      SELECT li.logistics_item_id,
+             li.item_id,
+             li.logistics_id,
+             li.logistics_processed_quantity,
+             it.company_id
+      FROM logistics_item li
+      LEFT JOIN item it ON it.item_id = li.item_id
+      WHERE li.logistics_item_id > ? AND li.logistics_item_id <= ?
+      ORDER BY it.company_id, li.logistics_item_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(logistics_item_id), 0) FROM logistics_item", Long.class);
+    return maxId != null ? maxId : 0L;
   }
 
   private LogisticsItemRow mapToRow(ResultSet rs, int rowNum) throws SQLException {
@@ -1,5 +1,7 @@
 package com.nexerp.domain.analytics.infra.extractor.logisticsitem;
 
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
 import java.time.LocalDate;
 
 public record LogisticsItemRow(
@@ -7,8 +9,18 @@ public record LogisticsItemRow(
   long itemId,
   long logisticsId,
   long processedQuantity
-) {
+) implements ExportRecord {
 
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(logisticsItemId);
+    sink.int64(itemId);
+    sink.int64(logisticsId);
+    sink.int64(processedQuantity);
+  }
+
+  @Override
   public String[] toCsvArray(LocalDate exportDate) {
     return new String[]{
       exportDate.toString(),
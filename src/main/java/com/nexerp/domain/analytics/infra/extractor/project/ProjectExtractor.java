@@ -1,11 +1,15 @@
 package com.nexerp.domain.analytics.infra.extractor.project;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
 import com.nexerp.domain.analytics.infra.util.JdbcDateConverters;
+import com.nexerp.domain.analytics.port.CompanyRecord;
 import com.nexerp.domain.analytics.port.ExtractorPort;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -17,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class ProjectExtractor implements ExtractorPort {
 
   private final @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate;
+  private final CursorQuery cursorQuery;
 
   @Override
   public ExportTable table() {
@@ -24,20 +29,20 @@ public class ProjectExtractor implements ExtractorPort {
   }
 
   @Override
-  public String[] header() {
-    return new String[]{
-      "date",
-      "project_id",
-      "company_id",
-      "project_status",
-      "project_create_date",
-      "project_end_date",
-      "project_expected_end_date"
-    };
+  public List<ExportColumn> columns() {
+    return List.of(
+      ExportColumn.exportDate(),
+      ExportColumn.int64("project_id"),
+      ExportColumn.int64("company_id"),
+      ExportColumn.category("project_status"),
+      ExportColumn.date("project_create_date"),
+      ExportColumn.date("project_end_date"),
+      ExportColumn.date("project_expected_end_date")
+    );
   }
 
   @Override
-  public Stream<String[]> extractRows(LocalDate date) {
+  public Stream<ProjectRow> extractRecords(IdRange range) {
     String sql = """
       SELECT project_id, 
              company_id, 
@@ -46,12 +51,40 @@ public class ProjectExtractor implements ExtractorPort {
              project_end_date,
              project_expected_end_date
       FROM project 
+      WHERE project_id > ? AND project_id <= ?
       ORDER BY project_id
       """;
 
     // 결과 Stream으로 변환
-    return jdbcTemplate.queryForStream(sql, this::mapToRow)
-      .map(row -> row.toCsvArray(date));
+    return cursorQuery.stream(table(), columns(), sql, this::mapToRow, range.afterId(),
+      range.toId());
+  }
+
+  @Override
+  public Stream<CompanyRecord> extractRecordsByCompany(IdRange range) {
+    String sql = """
+      SELECT project_id,
+             company_id,
+             project_status,
+             project_create_date,
+             project_end_date,
+             project_expected_end_date
+      FROM project
+      WHERE project_id > ? AND project_id <= ?
+      ORDER BY company_id, project_id
+      """;
+
+    return cursorQuery.stream(table(), columns(), sql,
+      (rs, rowNum) -> CompanyRecord.of(rs.getObject("company_id", Long.class),
+        mapToRow(rs, rowNum)),
+      range.afterId(), range.toId());
+  }
+
+  @Override
+  public long maxId() {
+    Long maxId = jdbcTemplate.queryForObject(
+      "SELECT COALESCE(MAX(project_id), 0) FROM project", Long.class);
+    return maxId != null ? maxId : 0L;
   }
 
   // 데이터베이스의 한 줄을 객체로 바꾸는 전용 메서드
@@ -1,5 +1,7 @@
 package com.nexerp.domain.analytics.infra.extractor.project;
 
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
 import java.time.LocalDate;
 
 public record ProjectRow(
@@ -9,8 +11,20 @@ public record ProjectRow(
   LocalDate createdAt,
   LocalDate endDate,
   LocalDate expectedEndDate
-) {
+) implements ExportRecord {
 
+  @Override
+  public void writeFields(LocalDate exportDate, FieldSink sink) {
+    sink.date(exportDate);
+    sink.int64(projectId);
+    sink.int64(companyId);
+    sink.string(status);
+    sink.date(createdAt);
+    sink.date(endDate);
+    sink.date(expectedEndDate);
+  }
+
+  @Override
   public String[] toCsvArray(LocalDate exportDate) {
     return new String[]{
       exportDate.toString(),
@@ -0,0 +1,189 @@
+package com.nexerp.domain.analytics.infra.metrics;
+
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 내보내기 메트릭 (/actuator/prometheus)
+ * - analytics.export.table: 테이블 하나의 전체 시간 (Observation, 트레이싱 브리지를 추가하면 span 으로도 기록)
+ * - analytics.export.phase{table,phase}: 단계별 시간 (extract / upload / extract_upload(DIRECT_S3))
+ * - analytics.export.rows.per.second / bytes.per.second{table}: 마지막 실행의 처리량
+ * - analytics.export.run{outcome}: 날짜 전체 시간, 03:00 Lambda 시작 전 여유는 last.run.duration 과 SLO 버킷으로 확인
+ * - analytics.replica.query{table}: 복제본 쿼리 첫 행까지 지연 (히스토그램)
+ * - analytics.export.s3.retries{operation}: S3 업로드/커밋 재시도 수
+ * - analytics.replica.throttle{table,reason}: 복제본 보호로 추출이 기다린 시간 (rate / lag_pause)
+ * - analytics.replica.lag / threads.running / throttle.rate: 마지막 복제본 확인 결과와 현재 속도 상한
+ */
+@Component
+public class AnalyticsExportMetrics {
+
+  // 02:00 시작 -> 03:00 Lambda 시작까지 남은 여유를 버킷으로 보기 위한 경계
+  private static final Duration[] RUN_SLO = {Duration.ofMinutes(15), Duration.ofMinutes(30),
+    Duration.ofMinutes(45), Duration.ofMinutes(55), Duration.ofMinutes(60)};
+
+  private final MeterRegistry registry;
+  private final ObservationRegistry observationRegistry;
+
+  // 테이블별 마지막 실행 처리량 (게이지가 읽는 값)
+  private final Map<ExportTable, AtomicLong> rowsPerSecond = new EnumMap<>(ExportTable.class);
+  private final Map<ExportTable, AtomicLong> bytesPerSecond = new EnumMap<>(ExportTable.class);
+  private final AtomicLong lastRunSeconds = new AtomicLong();
+  private final AtomicLong lastCommitEpochSeconds = new AtomicLong();
+  // 확인하지 못한 값은 -1
+  private final AtomicLong replicaLagSeconds = new AtomicLong(-1);
+  private final AtomicLong replicaThreadsRunning = new AtomicLong(-1);
+  private final AtomicLong replicaThrottleRate = new AtomicLong();
+
+  public AnalyticsExportMetrics(MeterRegistry registry, ObservationRegistry observationRegistry) {
+    this.registry = registry;
+    this.observationRegistry = observationRegistry;
+
+    for (ExportTable table : ExportTable.values()) {
+      rowsPerSecond.put(table, gauge("analytics.export.rows.per.second", table));
+      bytesPerSecond.put(table, gauge("analytics.export.bytes.per.second", table));
+    }
+    Gauge.builder("analytics.export.last.run.duration", lastRunSeconds, AtomicLong::get)
+      .description("마지막 내보내기 실행 시간")
+      .baseUnit("seconds")
+      .register(registry);
+    Gauge.builder("analytics.export.last.commit.timestamp", lastCommitEpochSeconds,
+        AtomicLong::get)
+      .description("마지막으로 커밋 마커를 쓴 시각 (epoch)")
+      .baseUnit("seconds")
+      .register(registry);
+    Gauge.builder("analytics.replica.lag", replicaLagSeconds, AtomicLong::get)
+      .description("마지막으로 확인한 복제 지연 (-1: 확인 불가)")
+      .baseUnit("seconds")
+      .register(registry);
+    Gauge.builder("analytics.replica.threads.running", replicaThreadsRunning, AtomicLong::get)
+      .description("마지막으로 확인한 복제본 Threads_running (-1: 확인 불가)")
+      .register(registry);
+    Gauge.builder("analytics.replica.throttle.rate", replicaThrottleRate, AtomicLong::get)
+      .description("현재 전체 추출 속도 상한 (0: 제한 없음)")
+      .baseUnit("rows")
+      .register(registry);
+  }
+
+  /**
+   * 테이블 하나의 내보내기를 Observation 으로 감쌉니다. (실패하면 error 태그와 함께 기록)
+   */
+  public <T> T observeTable(ExportTable table, Supplier<T> work) {
+    return Observation.createNotStarted("analytics.export.table", observationRegistry)
+      .contextualName("analytics-export " + table.filePrefix())
+      .lowCardinalityKeyValue("table", table.filePrefix())
+      .observe(work);
+  }
+
+  public void recordPhase(ExportTable table, String phase, long nanos) {
+    Timer.builder("analytics.export.phase")
+      .description("테이블 내보내기 단계별 시간")
+      .tag("table", table.filePrefix())
+      .tag("phase", phase)
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  // 행/바이트 누적 카운터와 마지막 실행 처리량 게이지
+  public void recordThroughput(ExportTable table, long rows, long bytes, long elapsedNanos) {
+    Counter.builder("analytics.export.rows").tag("table", table.filePrefix())
+      .baseUnit("rows").register(registry).increment(rows);
+    Counter.builder("analytics.export.bytes").tag("table", table.filePrefix())
+      .baseUnit("bytes").register(registry).increment(bytes);
+
+    double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+    rowsPerSecond.get(table).set(Math.round(rows / seconds));
+    bytesPerSecond.get(table).set(Math.round(bytes / seconds));
+  }
+
+  public void recordRun(long nanos, boolean success) {
+    Timer.builder("analytics.export.run")
+      .description("날짜 하나의 전체 내보내기 시간 (재개 실행 포함)")
+      .tag("outcome", success ? "success" : "failure")
+      .serviceLevelObjectives(RUN_SLO)
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+    lastRunSeconds.set(TimeUnit.NANOSECONDS.toSeconds(nanos));
+  }
+
+  public void recordCommit(long nanos) {
+    Timer.builder("analytics.export.commit")
+      .description("임시 키 -> 최종 키 복사, 매니페스트/마커 기록 시간")
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+    lastCommitEpochSeconds.set(Instant.now().getEpochSecond());
+  }
+
+  // 최종 실패가 아닌 재시도 한 번마다 증가 (operation: upload / commit)
+  public Runnable s3RetryCounter(String operation) {
+    Counter counter = Counter.builder("analytics.export.s3.retries")
+      .description("S3 업로드/커밋 재시도 수")
+      .tag("operation", operation)
+      .register(registry);
+    return counter::increment;
+  }
+
+  // 복제본 쿼리 실행부터 첫 결과까지 (스트리밍이라 전체 행 수와 무관)
+  public void recordReplicaQuery(ExportTable table, long nanos) {
+    Timer.builder("analytics.replica.query")
+      .description("복제본 추출 쿼리 첫 결과까지 지연")
+      .tag("table", table.filePrefix())
+      .publishPercentileHistogram()
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  // 추출 스트림 허가를 기다린 시간 (길어지면 replica-permits 부족)
+  public void recordReplicaPermitWait(long nanos) {
+    Timer.builder("analytics.replica.permit.wait")
+      .description("추출 스트림 허가 대기 시간")
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  // 복제본 보호로 추출이 기다린 시간 (reason: rate 속도 제한, lag_pause 지연으로 멈춤)
+  public void recordReplicaThrottle(ExportTable table, String reason, long nanos) {
+    Timer.builder("analytics.replica.throttle")
+      .description("복제본 지연/부하로 추출을 늦춘 시간")
+      .tag("table", table.filePrefix())
+      .tag("reason", reason)
+      .register(registry)
+      .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordReplicaHealth(ReplicaHealth health, double rowsPerSecond) {
+    replicaLagSeconds.set(health.lagSeconds() != null ? health.lagSeconds() : -1);
+    replicaThreadsRunning.set(health.threadsRunning() != null ? health.threadsRunning() : -1);
+    replicaThrottleRate.set(Math.round(rowsPerSecond));
+  }
+
+  // 사용 중인 추출 스트림 수
+  public void bindReplicaPermits(Semaphore permits, int limit) {
+    Gauge.builder("analytics.replica.streams.active", permits,
+        semaphore -> limit - semaphore.availablePermits())
+      .description("열려 있는 추출 스트림(복제본 연결) 수")
+      .register(registry);
+  }
+
+  private AtomicLong gauge(String name, ExportTable table) {
+    AtomicLong value = new AtomicLong();
+    Gauge.builder(name, value, AtomicLong::get)
+      .tag("table", table.filePrefix())
+      .register(registry);
+    return value;
+  }
+}
@@ -0,0 +1,77 @@
+package com.nexerp.domain.analytics.infra.replica;
+
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import com.nexerp.domain.analytics.port.ReplicaHealthPort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 복제본(MySQL)의 복제 지연과 실행 중인 스레드 수를 확인합니다.
+ * - 지연: SHOW REPLICA STATUS 의 Seconds_Behind_Source (8.0.22 미만은 SHOW SLAVE STATUS)
+ *   REPLICATION CLIENT 권한이 필요하며, 복제본이 아니거나 복제가 멈춰 있으면 null
+ * - 부하: SHOW GLOBAL STATUS 의 Threads_running (내보내기 자신의 추출 쿼리도 포함)
+ * 확인 쿼리는 복제본 풀의 여유 연결 하나를 잠깐 사용합니다.
+ */
+@Slf4j
+@Component
+public class MySqlReplicaHealthProbe implements ReplicaHealthPort {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 8.0.22 미만이면 SHOW SLAVE STATUS 로 전환
+  private volatile boolean legacyStatus;
+  // 권한 없음 등 같은 원인의 경고를 반복하지 않음
+  private volatile boolean lagUnavailableLogged;
+
+  public MySqlReplicaHealthProbe(@Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public ReplicaHealth probe() {
+    return new ReplicaHealth(lagSeconds(), threadsRunning());
+  }
+
+  private Long lagSeconds() {
+    try {
+      if (!legacyStatus) {
+        try {
+          return jdbcTemplate.query("SHOW REPLICA STATUS",
+            rs -> rs.next() ? nullableLong(rs, "Seconds_Behind_Source") : null);
+        } catch (BadSqlGrammarException e) {
+          legacyStatus = true;
+        }
+      }
+      return jdbcTemplate.query("SHOW SLAVE STATUS",
+        rs -> rs.next() ? nullableLong(rs, "Seconds_Behind_Master") : null);
+    } catch (DataAccessException e) {
+      if (!lagUnavailableLogged) {
+        lagUnavailableLogged = true;
+        log.warn("[ReplicaHealth] 복제 지연을 확인할 수 없어 지연 기준 조절을 하지 않습니다. cause={}",
+          e.getMostSpecificCause().getMessage());
+      }
+      return null;
+    }
+  }
+
+  private Long threadsRunning() {
+    try {
+      return jdbcTemplate.query("SHOW GLOBAL STATUS LIKE 'Threads_running'",
+        rs -> rs.next() ? nullableLong(rs, "Value") : null);
+    } catch (DataAccessException e) {
+      log.debug("[ReplicaHealth] Threads_running 확인 실패", e);
+      return null;
+    }
+  }
+
+  private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+    String value = rs.getString(column);
+    return value != null ? Long.valueOf(value.trim()) : null;
+  }
+}
@@ -0,0 +1,105 @@
+package com.nexerp.domain.analytics.infra.run;
+
+import com.nexerp.domain.analytics.domain.ExportMode;
+import com.nexerp.domain.analytics.domain.ExportRunState;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 날짜별 내보내기 실행의 테이블 진행 기록 (운영 DB에 저장, 복제본은 읽기 전용이므로)
+@Entity
+@Table(name = "analytics_export_run")
+@IdClass(ExportRunEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExportRunEntity {
+
+  @Id
+  @Column(name = "export_date")
+  private LocalDate exportDate;
+
+  // ExportTable 이름 (예: INVENTORY_ITEM)
+  @Id
+  @Column(name = "export_table", length = 50)
+  private String exportTable;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "state", nullable = false, length = 20)
+  private ExportRunState state;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "export_mode", length = 20)
+  private ExportMode mode;
+
+  @Column(name = "row_count", nullable = false)
+  private long rowCount;
+
+  // 커밋 후 저장할 워터마크
+  @Column(name = "last_exported_id")
+  private Long lastExportedId;
+
+  @Column(name = "last_full_snapshot_date")
+  private LocalDate lastFullSnapshotDate;
+
+  // 파일 이름/크기/SHA-256 목록 (JSON)
+  @Column(name = "files_json", columnDefinition = "TEXT")
+  private String filesJson;
+
+  // S3 임시 키 -> 최종 키 (JSON)
+  @Column(name = "staged_keys_json", columnDefinition = "TEXT")
+  private String stagedKeysJson;
+
+  @Column(name = "error_message", length = 1000)
+  private String errorMessage;
+
+  // 추출 ~ 임시 키 업로드 소요 시간 (기존 행은 null)
+  @Column(name = "elapsed_ms")
+  private Long elapsedMs;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  public static ExportRunEntity of(LocalDate exportDate, String exportTable) {
+    ExportRunEntity entity = new ExportRunEntity();
+    entity.exportDate = exportDate;
+    entity.exportTable = exportTable;
+    return entity;
+  }
+
+  public void update(ExportRunState state, ExportMode mode, long rowCount, Long lastExportedId,
+    LocalDate lastFullSnapshotDate, String filesJson, String stagedKeysJson,
+    String errorMessage, long elapsedMs) {
+    this.state = state;
+    this.mode = mode;
+    this.rowCount = rowCount;
+    this.lastExportedId = lastExportedId;
+    this.lastFullSnapshotDate = lastFullSnapshotDate;
+    this.filesJson = filesJson;
+    this.stagedKeysJson = stagedKeysJson;
+    this.errorMessage = errorMessage;
+    this.elapsedMs = elapsedMs;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    private LocalDate exportDate;
+    private String exportTable;
+  }
+}
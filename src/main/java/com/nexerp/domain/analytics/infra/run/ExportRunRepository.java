@@ -0,0 +1,10 @@
+package com.nexerp.domain.analytics.infra.run;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ExportRunRepository extends JpaRepository<ExportRunEntity, ExportRunEntity.Key> {
+
+  List<ExportRunEntity> findByExportDate(LocalDate exportDate);
+}
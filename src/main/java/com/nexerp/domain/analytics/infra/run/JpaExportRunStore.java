@@ -0,0 +1,98 @@
+package com.nexerp.domain.analytics.infra.run;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexerp.domain.analytics.domain.ExportRunEntry;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import com.nexerp.domain.analytics.domain.ExportedFile;
+import com.nexerp.domain.analytics.port.ExportRunPort;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class JpaExportRunStore implements ExportRunPort {
+
+  private static final TypeReference<List<ExportedFile>> FILES = new TypeReference<>() {
+  };
+  private static final TypeReference<Map<String, String>> STAGED_KEYS = new TypeReference<>() {
+  };
+
+  private final ExportRunRepository repository;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ExportRunEntry> findByDate(LocalDate date) {
+    return repository.findByExportDate(date).stream()
+      .map(this::toDomain)
+      .toList();
+  }
+
+  @Override
+  @Transactional
+  public void save(ExportRunEntry entry) {
+    ExportRunEntity entity = repository.findById(
+        new ExportRunEntity.Key(entry.date(), entry.table().name()))
+      .orElseGet(() -> ExportRunEntity.of(entry.date(), entry.table().name()));
+    ExportWatermark watermark = entry.watermark();
+    entity.update(entry.state(), entry.mode(), entry.rowCount(),
+      watermark != null ? watermark.lastExportedId() : null,
+      watermark != null ? watermark.lastFullSnapshotDate() : null,
+      write(entry.files()), write(entry.stagedKeys()), truncate(entry.error()),
+      entry.elapsedMs());
+    repository.save(entity);
+  }
+
+  /**
+   * 커밋 완료 시 한 트랜잭션으로 모든 테이블 상태를 갱신합니다.
+   */
+  @Override
+  @Transactional
+  public void saveAll(Collection<ExportRunEntry> entries) {
+    entries.forEach(this::save);
+  }
+
+  private ExportRunEntry toDomain(ExportRunEntity entity) {
+    ExportTable table = ExportTable.valueOf(entity.getExportTable());
+    ExportWatermark watermark = entity.getLastExportedId() == null ? null
+      : new ExportWatermark(table, entity.getLastExportedId(), entity.getLastFullSnapshotDate());
+    return new ExportRunEntry(entity.getExportDate(), table, entity.getState(), entity.getMode(),
+      entity.getRowCount(), watermark, read(entity.getFilesJson(), FILES, List.of()),
+      read(entity.getStagedKeysJson(), STAGED_KEYS, Map.of()), entity.getErrorMessage(),
+      entity.getElapsedMs() != null ? entity.getElapsedMs() : 0);
+  }
+
+  private String write(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize export run", e);
+    }
+  }
+
+  private <T> T read(String json, TypeReference<T> type, T empty) {
+    if (json == null) {
+      return empty;
+    }
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to read export run", e);
+    }
+  }
+
+  private static String truncate(String message) {
+    if (message == null || message.length() <= 1000) {
+      return message;
+    }
+    return message.substring(0, 1000);
+  }
+}
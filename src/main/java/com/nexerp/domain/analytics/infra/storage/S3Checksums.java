@@ -0,0 +1,25 @@
+package com.nexerp.domain.analytics.infra.storage;
+
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * 멀티파트 완료 요청에 파트 체크섬을 넣는 도우미
+ * 체크섬 알고리즘을 지정한 멀티파트 업로드는 완료 시 파트마다 같은 알고리즘의 값이 있어야 합니다.
+ */
+final class S3Checksums {
+
+  private S3Checksums() {
+  }
+
+  static CompletedPart.Builder withPartChecksum(CompletedPart.Builder part,
+    ChecksumAlgorithm algorithm, String crc32, String crc32c, String sha1, String sha256) {
+    return switch (algorithm) {
+      case CRC32 -> part.checksumCRC32(crc32);
+      case CRC32_C -> part.checksumCRC32C(crc32c);
+      case SHA1 -> part.checksumSHA1(sha1);
+      case SHA256 -> part.checksumSHA256(sha256);
+      default -> part;
+    };
+  }
+}
@@ -0,0 +1,303 @@
+package com.nexerp.domain.analytics.infra.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * S3 멀티파트 업로드 기반 스트리밍 OutputStream.
+ * - 고정 크기 파트 버퍼에 쓰고, 가득 차면 파트 업로드를 별도 executor 로 넘깁니다.
+ * - 파트 버퍼는 최대 maxInFlightParts + 1 개까지만 만들고 재사용합니다. 모두 사용 중이면 write 가 대기(backpressure)하므로
+ *   파일 크기와 무관하게 메모리는 파트 몇 개 크기로 고정됩니다.
+ * - 첫 버퍼는 작게 시작해 파트 크기까지 늘어나며, 파트 하나보다 작은 파일은 close 시 PutObject 한 번으로 올립니다.
+ * - 실패하거나 abort() 가 호출되면 멀티파트 업로드를 중단(AbortMultipartUpload)하여 부분 객체가 남지 않습니다.
+ * - 파트/객체마다 체크섬을 함께 보내 S3 가 수신 시점에 검증합니다. (데이터를 다시 읽지 않음)
+ */
+@Slf4j
+public class S3MultipartOutputStream extends OutputStream {
+
+  // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+  public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  private final S3Client s3Client;
+  private final String bucket;
+  private final String key;
+  private final int partSize;
+  private final int maxBuffers;
+  private final Executor partUploadExecutor;
+  private final ChecksumAlgorithm checksumAlgorithm;
+  private final S3RequestPermits requestPermits;
+  // abort() 는 파트 업로드 완료를 기다리므로 synchronized 대신 락 사용 (가상 스레드 고정 방지)
+  private final ReentrantLock abortLock = new ReentrantLock();
+
+  // 업로드가 끝나 반납된 버퍼
+  private final BlockingQueue<byte[]> freeBuffers = new LinkedBlockingQueue<>();
+  // abort() 는 다른 스레드(롤백)에서 호출될 수 있음
+  private final List<CompletableFuture<CompletedPart>> partFutures = new CopyOnWriteArrayList<>();
+
+  private byte[] buffer;
+  private int allocatedBuffers;
+  private int position;
+  private int nextPartNumber = 1;
+  private long bytesWritten;
+
+  private volatile String uploadId;
+  private volatile Throwable failure;
+  private volatile boolean closed;
+  private volatile boolean aborted;
+
+  S3MultipartOutputStream(S3Client s3Client, String bucket, String key, int partSize,
+    int maxInFlightParts, Executor partUploadExecutor, ChecksumAlgorithm checksumAlgorithm,
+    S3RequestPermits requestPermits) {
+    if (partSize < MIN_PART_SIZE) {
+      throw new IllegalArgumentException("partSize must be >= 5MB: " + partSize);
+    }
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.key = key;
+    this.partSize = partSize;
+    this.maxBuffers = Math.max(1, maxInFlightParts) + 1;
+    this.partUploadExecutor = partUploadExecutor;
+    this.checksumAlgorithm = checksumAlgorithm;
+    this.requestPermits = requestPermits;
+    this.buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, partSize)];
+    this.allocatedBuffers = 1;
+  }
+
+  public String key() {
+    return key;
+  }
+
+  public long bytesWritten() {
+    return bytesWritten;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureWritable();
+    if (position == buffer.length) {
+      makeRoom();
+    }
+    buffer[position++] = (byte) b;
+    bytesWritten++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureWritable();
+    while (len > 0) {
+      if (position == buffer.length) {
+        makeRoom();
+      }
+      int n = Math.min(len, buffer.length - position);
+      System.arraycopy(b, off, buffer, position, n);
+      position += n;
+      off += n;
+      len -= n;
+      bytesWritten += n;
+    }
+  }
+
+  /**
+   * 남은 버퍼를 마지막 파트로 올리고 업로드를 완료합니다. 실패 시 업로드를 중단하고 예외를 던집니다.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    if (aborted) {
+      // 롤백으로 중단된 업로드를 성공으로 오인하지 않도록
+      throw new IOException("S3 upload aborted: " + key);
+    }
+    closed = true;
+
+    try {
+      if (uploadId == null) {
+        // 파트 하나도 안 찬 작은 파일은 단일 PutObject
+        PutObjectRequest request = PutObjectRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .checksumAlgorithm(checksumAlgorithm)
+          .build();
+        requestPermits.call(() -> s3Client.putObject(request, RequestBody.fromInputStream(
+          new ByteArrayInputStream(buffer, 0, position), position)));
+        log.info("[S3Multipart] Uploaded single object key={} bytes={}", key, bytesWritten);
+        return;
+      }
+
+      if (position > 0) {
+        flushPart();
+      }
+
+      CompletableFuture.allOf(partFutures.toArray(new CompletableFuture[0])).join();
+      List<CompletedPart> parts = partFutures.stream()
+        .map(CompletableFuture::join)
+        .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+        .toList();
+
+      CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+        .build();
+      requestPermits.call(() -> s3Client.completeMultipartUpload(request));
+
+      log.info("[S3Multipart] Completed key={} parts={} bytes={}", key, parts.size(),
+        bytesWritten);
+    } catch (Exception e) {
+      Throwable cause = (e instanceof CompletionException) ? e.getCause() : e;
+      abort();
+      throw new IOException("S3 멀티파트 업로드 실패: " + key, cause);
+    }
+  }
+
+  /**
+   * 진행 중인 멀티파트 업로드를 중단합니다. 여러 번 호출해도 안전합니다.
+   */
+  public void abort() {
+    abortLock.lock();
+    try {
+      if (aborted) {
+        return;
+      }
+      aborted = true;
+
+      // 진행 중인 파트 업로드가 끝난 뒤 중단해야 파트가 남지 않음
+      partFutures.forEach(f -> f.handle((r, e) -> null).join());
+
+      if (uploadId != null) {
+        try {
+          AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .build();
+          requestPermits.call(() -> s3Client.abortMultipartUpload(request));
+          log.info("[S3Multipart] Aborted key={} uploadId={}", key, uploadId);
+        } catch (Exception e) {
+          log.warn("[S3Multipart] Abort 실패 key={} uploadId={}", key, uploadId, e);
+        }
+      }
+    } finally {
+      abortLock.unlock();
+    }
+  }
+
+  // 첫 버퍼는 파트 크기까지 늘리고, 이미 파트 크기면 파트로 업로드
+  private void makeRoom() throws IOException {
+    if (buffer.length < partSize) {
+      buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, partSize));
+      return;
+    }
+    flushPart();
+  }
+
+  private void flushPart() throws IOException {
+    checkNotFailed();
+    if (uploadId == null) {
+      CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .checksumAlgorithm(checksumAlgorithm)
+        .build();
+      uploadId = requestPermits.call(() -> s3Client.createMultipartUpload(request)).uploadId();
+    }
+
+    byte[] partBuffer = buffer;
+    int partLength = position;
+    int partNumber = nextPartNumber++;
+
+    partFutures.add(CompletableFuture.supplyAsync(
+        () -> uploadPart(partNumber, partBuffer, partLength), partUploadExecutor)
+      .whenComplete((r, e) -> {
+        if (e != null && failure == null) {
+          failure = e;
+        }
+        // 성공/실패와 관계없이 버퍼 반납
+        freeBuffers.offer(partBuffer);
+      }));
+
+    buffer = nextBuffer();
+    position = 0;
+  }
+
+  // 반납된 버퍼 재사용 > 한도 내 새로 할당 > 업로드 완료까지 대기(backpressure)
+  private byte[] nextBuffer() throws IOException {
+    byte[] free = freeBuffers.poll();
+    if (free != null) {
+      return free;
+    }
+    if (allocatedBuffers < maxBuffers) {
+      allocatedBuffers++;
+      return new byte[partSize];
+    }
+    try {
+      return freeBuffers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for part buffer: " + key);
+    }
+  }
+
+  private CompletedPart uploadPart(int partNumber, byte[] data, int length) {
+    UploadPartRequest request = UploadPartRequest.builder()
+      .bucket(bucket)
+      .key(key)
+      .uploadId(uploadId)
+      .partNumber(partNumber)
+      .contentLength((long) length)
+      .checksumAlgorithm(checksumAlgorithm)
+      .build();
+    UploadPartResponse response = requestPermits.call(() -> s3Client.uploadPart(request,
+      RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length)));
+
+    return S3Checksums.withPartChecksum(CompletedPart.builder()
+        .partNumber(partNumber)
+        .eTag(response.eTag()), checksumAlgorithm, response.checksumCRC32(),
+      response.checksumCRC32C(), response.checksumSHA1(), response.checksumSHA256())
+      .build();
+  }
+
+  private void ensureWritable() throws IOException {
+    if (closed) {
+      throw new IOException("Stream already closed: " + key);
+    }
+    checkNotFailed();
+  }
+
+  private void checkNotFailed() throws IOException {
+    if (aborted) {
+      throw new IOException("S3 upload aborted: " + key);
+    }
+    if (failure != null) {
+      throw new IOException("S3 파트 업로드 실패: " + key, failure);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.nexerp.domain.analytics.infra.storage;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import software.amazon.awssdk.core.exception.AbortedException;
+
+/**
+ * 동시에 진행 중인 S3 요청 수 제한 (threads.s3-permits)
+ * 가상 스레드 모드에서는 업로드 작업 수에 제한이 없으므로 HTTP 연결 풀 대기 타임아웃 대신 여기서 기다림
+ * 요청 하나 단위로만 잡고, 다른 요청을 기다리는 동안에는 잡지 않음 (중첩 대기로 인한 교착 방지)
+ */
+final class S3RequestPermits {
+
+  private final Semaphore semaphore;
+
+  S3RequestPermits(int permits) {
+    this.semaphore = new Semaphore(permits);
+  }
+
+  <T> T call(Supplier<T> request) {
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw AbortedException.create("Interrupted while waiting for S3 request permit", e);
+    }
+    try {
+      return request.get();
+    } finally {
+      semaphore.release();
+    }
+  }
+}
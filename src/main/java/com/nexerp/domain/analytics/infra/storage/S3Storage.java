@@ -2,29 +2,46 @@ package com.nexerp.domain.analytics.infra.storage;
 
 import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
 import com.nexerp.domain.analytics.port.StoragePort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 @Slf4j
 @Component
 @Primary // 테스트 시 S3 우선 사용 목적
-@RequiredArgsConstructor
 public class S3Storage implements StoragePort {
 
+  // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+  public static final int MAX_DELETE_BATCH = 1000;
+
   private final S3Client s3Client;
   private final AnalyticsExportProperties props;
+  private final Executor s3PartUploadExecutor;
+  // 업로드 스트림과 복사/삭제가 함께 쓰는 S3 요청 동시 실행 상한
+  private final S3RequestPermits requestPermits;
+
+  public S3Storage(S3Client s3Client, AnalyticsExportProperties props,
+    @Qualifier("s3PartUploadExecutor") Executor s3PartUploadExecutor) {
+    this.s3Client = s3Client;
+    this.props = props;
+    this.s3PartUploadExecutor = s3PartUploadExecutor;
+    this.requestPermits = new S3RequestPermits(props.threads().s3Permits());
+  }
 
   @Override
   public void ensureBaseDir() {
@@ -43,39 +60,193 @@ public class S3Storage implements StoragePort {
     return finalPath + ".tmp-" + UUID.randomUUID();
   }
 
+  /**
+   * 멀티파트 스트리밍 업로드 - 파일 전체를 힙에 올리지 않고 파트 단위로 업로드합니다.
+   * close() 시 업로드 완료, 실패 시 호출자가 abort() 로 중단해야 합니다.
+   */
   @Override
-  public OutputStream openOutputStream(String fullPath) throws IOException {
-    return new ByteArrayOutputStream() {
-      @Override
-      public void close() throws IOException {
-        super.close();
-        byte[] bytes = toByteArray();
-        s3Client.putObject(PutObjectRequest.builder()
-          .bucket(props.s3Bucket())
-          .key(fullPath)
-          .build(), RequestBody.fromBytes(bytes));
-        log.info("[S3Storage] Uploaded to S3: {}", fullPath);
-      }
-    };
+  public S3MultipartOutputStream openOutputStream(String fullPath) throws IOException {
+    AnalyticsExportProperties.S3Upload upload = props.s3Upload();
+    return new S3MultipartOutputStream(
+      s3Client,
+      props.s3Bucket(),
+      fullPath,
+      upload.partSizeMb() * 1024 * 1024,
+      upload.maxInFlightParts(),
+      s3PartUploadExecutor,
+      upload.checksumAlgorithm(),
+      requestPermits);
   }
 
   @Override
   public void moveAtomic(String sourceFullPath, String targetFullPath) throws IOException {
+    copy(sourceFullPath, targetFullPath, Map.of());
+
+    // 원본 삭제
+    deleteIfExists(sourceFullPath);
+  }
+
+  /**
+   * 서버 측 복사 (원본 유지). 커밋 도중 실패해도 임시 키가 남아 다시 커밋할 수 있도록 이동 대신 사용
+   * metadata 가 있으면 원본 사용자 메타데이터에 더해 기록 (예: sha256), 대상 체크섬은 S3 가 복사하며 다시 계산
+   * Content-Type 등 원본 헤더는 HEAD 결과로 유지
+   */
+  public void copy(String sourceFullPath, String targetFullPath, Map<String, String> metadata)
+    throws IOException {
+    try {
+      HeadObjectRequest headRequest = HeadObjectRequest.builder()
+        .bucket(props.s3Bucket())
+        .key(sourceFullPath)
+        .build();
+      HeadObjectResponse head = requestPermits.call(() -> s3Client.headObject(headRequest));
+      long size = head.contentLength();
+      // REPLACE/멀티파트 복사는 원본 헤더를 가져가지 않으므로 HEAD 결과의 사용자 메타데이터와 합침
+      Map<String, String> targetMetadata = new HashMap<>(head.metadata());
+      targetMetadata.putAll(metadata);
+
+      // CopyObject 는 단일 요청 5GB 한도가 있으므로 큰 객체는 파트 단위 서버 측 복사
+      long threshold = (long) props.s3Upload().multipartCopyThresholdMb() * 1024 * 1024;
+      if (size > threshold) {
+        multipartCopy(sourceFullPath, targetFullPath, size, head, targetMetadata);
+      } else {
+        CopyObjectRequest.Builder copyRequest = CopyObjectRequest.builder()
+          .sourceBucket(props.s3Bucket())
+          .sourceKey(sourceFullPath)
+          .destinationBucket(props.s3Bucket())
+          .destinationKey(targetFullPath)
+          .checksumAlgorithm(props.s3Upload().checksumAlgorithm());
+        if (metadata.isEmpty()) {
+          copyRequest.metadataDirective(MetadataDirective.COPY);
+        } else {
+          // REPLACE 는 원본의 Content-Type 등 시스템 메타데이터도 버리므로 HEAD 결과로 다시 지정
+          copyRequest.metadataDirective(MetadataDirective.REPLACE)
+            .contentType(head.contentType())
+            .contentEncoding(head.contentEncoding())
+            .contentDisposition(head.contentDisposition())
+            .contentLanguage(head.contentLanguage())
+            .cacheControl(head.cacheControl())
+            .metadata(targetMetadata);
+        }
+        requestPermits.call(() -> s3Client.copyObject(copyRequest.build()));
+      }
+
+      log.info("[S3Storage] Copied {} to {} bytes={}", sourceFullPath, targetFullPath, size);
+    } catch (S3Exception e) {
+      throw new IOException("Failed to copy S3 object", e);
+    }
+  }
+
+  /**
+   * UploadPartCopy 로 파트별 병렬 서버 측 복사. 실패 시 멀티파트 업로드를 중단합니다.
+   */
+  private void multipartCopy(String sourceKey, String targetKey, long size,
+    HeadObjectResponse sourceHead, Map<String, String> metadata) throws IOException {
+    String bucket = props.s3Bucket();
+    long partSize = (long) props.s3Upload().copyPartSizeMb() * 1024 * 1024;
+    ChecksumAlgorithm checksumAlgorithm = props.s3Upload().checksumAlgorithm();
+
+    CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+      .bucket(bucket)
+      .key(targetKey)
+      .checksumAlgorithm(checksumAlgorithm)
+      .contentType(sourceHead.contentType())
+      .contentEncoding(sourceHead.contentEncoding())
+      .contentDisposition(sourceHead.contentDisposition())
+      .contentLanguage(sourceHead.contentLanguage())
+      .cacheControl(sourceHead.cacheControl())
+      .metadata(metadata)
+      .build();
+    String uploadId = requestPermits.call(() -> s3Client.createMultipartUpload(createRequest))
+      .uploadId();
+
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
     try {
-      CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-        .sourceBucket(props.s3Bucket())
-        .sourceKey(sourceFullPath)
-        .destinationBucket(props.s3Bucket())
-        .destinationKey(targetFullPath)
+      int partNumber = 1;
+      for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+        long lastByte = Math.min(offset + partSize, size) - 1;
+        UploadPartCopyRequest request = UploadPartCopyRequest.builder()
+          .sourceBucket(bucket)
+          .sourceKey(sourceKey)
+          .destinationBucket(bucket)
+          .destinationKey(targetKey)
+          .uploadId(uploadId)
+          .partNumber(partNumber)
+          .copySourceRange("bytes=" + offset + "-" + lastByte)
+          .build();
+        int number = partNumber;
+        parts.add(CompletableFuture.supplyAsync(() -> {
+          CopyPartResult result = requestPermits.call(() -> s3Client.uploadPartCopy(request))
+            .copyPartResult();
+          return S3Checksums.withPartChecksum(CompletedPart.builder()
+              .partNumber(number)
+              .eTag(result.eTag()), checksumAlgorithm, result.checksumCRC32(),
+            result.checksumCRC32C(), result.checksumSHA1(), result.checksumSHA256())
+            .build();
+        }, s3PartUploadExecutor));
+      }
+
+      List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+
+      CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(targetKey)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
         .build();
-      s3Client.copyObject(copyRequest);
+      requestPermits.call(() -> s3Client.completeMultipartUpload(completeRequest));
 
-      // 원본 삭제
-      deleteIfExists(sourceFullPath);
+      log.info("[S3Storage] Multipart copy {} -> {} parts={}", sourceKey, targetKey,
+        completedParts.size());
+    } catch (RuntimeException e) {
+      // 진행 중인 파트 복사가 끝난 뒤 중단해야 중단 후 완료된 파트가 남지 않음 (결과는 무시)
+      CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+        .handle((result, partError) -> null)
+        .join();
+      try {
+        AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(targetKey)
+          .uploadId(uploadId)
+          .build();
+        requestPermits.call(() -> s3Client.abortMultipartUpload(abortRequest));
+      } catch (S3Exception abortError) {
+        log.warn("[S3Storage] Failed to abort multipart copy: {}", targetKey);
+      }
+      throw new IOException("Failed to multipart copy S3 object: " + sourceKey, e);
+    }
+  }
 
-      log.info("[S3Storage] Moved {} to {}", sourceFullPath, targetFullPath);
+  /**
+   * 작은 객체(커밋 마커, 매니페스트)를 한 번에 업로드
+   */
+  public void putObject(String fullPath, byte[] content) throws IOException {
+    try {
+      PutObjectRequest request = PutObjectRequest.builder()
+        .bucket(props.s3Bucket())
+        .key(fullPath)
+        .checksumAlgorithm(props.s3Upload().checksumAlgorithm())
+        .build();
+      requestPermits.call(() -> s3Client.putObject(request, RequestBody.fromBytes(content)));
     } catch (S3Exception e) {
-      throw new IOException("Failed to move S3 object", e);
+      throw new IOException("Failed to put S3 object: " + fullPath, e);
+    }
+  }
+
+  /**
+   * 작은 객체(매니페스트)를 한 번에 읽음, 없으면 empty
+   */
+  public Optional<byte[]> getObjectIfExists(String fullPath) throws IOException {
+    try {
+      GetObjectRequest request = GetObjectRequest.builder()
+        .bucket(props.s3Bucket())
+        .key(fullPath)
+        .build();
+      return Optional.of(requestPermits.call(() -> s3Client.getObjectAsBytes(request))
+        .asByteArray());
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (S3Exception e) {
+      throw new IOException("Failed to get S3 object: " + fullPath, e);
     }
   }
 
@@ -86,32 +257,112 @@ public class S3Storage implements StoragePort {
         .bucket(props.s3Bucket())
         .key(fullPath)
         .build();
-      s3Client.deleteObject(deleteRequest);
+      requestPermits.call(() -> s3Client.deleteObject(deleteRequest));
     } catch (S3Exception e) {
       log.warn("[S3Storage] Failed to delete S3 object: {}", fullPath);
     }
   }
 
+  /**
+   * prefix 바로 아래 파일 이름 목록 (ListObjectsV2 는 한 번에 1000개까지라 끝까지 페이지를 넘김)
+   */
   @Override
   public List<String> listBaseFiles() {
+    List<String> result = new ArrayList<>();
+    scanKeys(props.s3KeyPrefix() + "/", key -> {
+      // 폴더(Prefix) 자체는 제외하고 파일명만 추출
+      if (!key.endsWith("/")) {
+        result.add(key.substring(key.lastIndexOf("/") + 1));
+      }
+      return true;
+    });
+    return result;
+  }
+
+  /**
+   * prefix 아래 키를 사전순으로 한 페이지(최대 1000개)씩 읽어 visitor 에 넘깁니다.
+   * visitor 가 false 를 반환하면 남은 키와 다음 페이지는 읽지 않음 (정렬 순서로 범위를 끊을 때 사용)
+   */
+  public void scanKeys(String prefix, Predicate<String> visitor) {
+    String continuationToken = null;
     try {
-      ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
-        .bucket(props.s3Bucket())
-        .prefix(props.s3KeyPrefix() + "/")
-        .build();
+      do {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+          .bucket(props.s3Bucket())
+          .prefix(prefix)
+          .continuationToken(continuationToken)
+          .build();
+        ListObjectsV2Response page = requestPermits.call(
+          () -> s3Client.listObjectsV2(listRequest));
 
-      ListObjectsV2Response result = s3Client.listObjectsV2(listRequest);
+        for (S3Object object : page.contents()) {
+          if (!visitor.test(object.key())) {
+            return;
+          }
+        }
+        continuationToken = page.isTruncated() ? page.nextContinuationToken() : null;
+      } while (continuationToken != null);
+    } catch (S3Exception e) {
+      throw new IllegalStateException("Failed to list S3 objects: " + prefix, e);
+    }
+  }
 
-      return result.contents().stream()
-        .map(S3Object::key)
-        // 폴더(Prefix) 자체는 제외하고 파일명만 추출
-        .filter(key -> !key.endsWith("/"))
-        .map(key -> key.substring(key.lastIndexOf("/") + 1))
-        .collect(Collectors.toList());
+  /**
+   * prefix 바로 아래 하위 경로 목록 (예: <table>/ 아래의 <table>/company_id=1/)
+   */
+  public List<String> listCommonPrefixes(String prefix) {
+    List<String> result = new ArrayList<>();
+    String continuationToken = null;
+    try {
+      do {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+          .bucket(props.s3Bucket())
+          .prefix(prefix)
+          .delimiter("/")
+          .continuationToken(continuationToken)
+          .build();
+        ListObjectsV2Response page = requestPermits.call(
+          () -> s3Client.listObjectsV2(listRequest));
+
+        page.commonPrefixes().forEach(common -> result.add(common.prefix()));
+        continuationToken = page.isTruncated() ? page.nextContinuationToken() : null;
+      } while (continuationToken != null);
+      return result;
     } catch (S3Exception e) {
-      throw new IllegalStateException("Failed to list S3 objects", e);
+      throw new IllegalStateException("Failed to list S3 prefixes: " + prefix, e);
     }
   }
 
+  /**
+   * 키를 DeleteObjects 한 번으로 삭제하고 삭제된 수를 반환합니다. (최대 MAX_DELETE_BATCH 개)
+   * 키별 실패는 로그만 남기고 나머지는 삭제된 것으로 셈
+   */
+  public int deleteObjects(List<String> keys) throws IOException {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    if (keys.size() > MAX_DELETE_BATCH) {
+      throw new IllegalArgumentException("DeleteObjects allows up to " + MAX_DELETE_BATCH
+        + " keys: " + keys.size());
+    }
+    try {
+      DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+        .bucket(props.s3Bucket())
+        .delete(Delete.builder()
+          .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+          // 실패한 키만 응답으로 받음
+          .quiet(true)
+          .build())
+        .build();
+      DeleteObjectsResponse response = requestPermits.call(() -> s3Client.deleteObjects(request));
 
+      for (S3Error error : response.errors()) {
+        log.warn("[S3Storage] Failed to delete S3 object: {} code={} message={}", error.key(),
+          error.code(), error.message());
+      }
+      return keys.size() - response.errors().size();
+    } catch (S3Exception e) {
+      throw new IOException("Failed to delete S3 objects: count=" + keys.size(), e);
+    }
+  }
 }
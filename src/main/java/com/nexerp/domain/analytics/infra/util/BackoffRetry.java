@@ -0,0 +1,62 @@
+package com.nexerp.domain.analytics.infra.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지수 백오프 재시도 (S3 업로드/커밋처럼 일시적 네트워크 오류가 나는 작업용)
+ */
+@Slf4j
+public final class BackoffRetry {
+
+  private BackoffRetry() {
+  }
+
+  @FunctionalInterface
+  public interface IoAction<T> {
+
+    T run() throws Exception;
+  }
+
+  /**
+   * action 을 최대 maxAttempts 번 실행합니다. 실패할 때마다 initialBackoffMs, 2배, 4배... 만큼 대기 후 재시도하며, 마지막 실패는
+   * IOException 으로 던집니다.
+   */
+  public static <T> T call(String label, int maxAttempts, long initialBackoffMs, IoAction<T> action)
+    throws IOException {
+    return call(label, maxAttempts, initialBackoffMs, () -> {
+    }, action);
+  }
+
+  /**
+   * 재시도 직전마다 onRetry 를 호출합니다. (재시도 횟수 메트릭)
+   */
+  public static <T> T call(String label, int maxAttempts, long initialBackoffMs,
+    Runnable onRetry, IoAction<T> action) throws IOException {
+    long backoffMs = initialBackoffMs;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.run();
+      } catch (Exception e) {
+        if (attempt >= maxAttempts) {
+          throw new IOException(label + " 실패 (attempts=" + attempt + ")", e);
+        }
+        log.warn("[Retry] {} 실패 attempt={}/{} {}ms 후 재시도: {}", label, attempt, maxAttempts,
+          backoffMs, e.getMessage());
+        onRetry.run();
+        sleep(backoffMs);
+        backoffMs *= 2;
+      }
+    }
+  }
+
+  private static void sleep(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted during retry backoff");
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.nexerp.domain.analytics.infra.util;
+
+import com.nexerp.domain.analytics.domain.ExportedFile;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 지나가는 바이트 수와 SHA-256 을 함께 계산하는 출력 스트림 (파일을 다시 읽지 않고 체크섬 확보)
+ * 압축 스트림 아래(실제 저장되는 바이트)에 둡니다.
+ */
+public class ChecksumOutputStream extends FilterOutputStream {
+
+  private final MessageDigest digest;
+  private long bytesWritten;
+
+  public ChecksumOutputStream(OutputStream out) {
+    super(out);
+    try {
+      this.digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not supported", e);
+    }
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    digest.update((byte) b);
+    bytesWritten++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    digest.update(b, off, len);
+    bytesWritten += len;
+  }
+
+  public long bytesWritten() {
+    return bytesWritten;
+  }
+
+  /**
+   * 기록이 끝난 뒤 한 번만 호출 (digest 가 초기화됨)
+   */
+  public ExportedFile toExportedFile(String fileName) {
+    return new ExportedFile(fileName, bytesWritten, HexFormat.of().formatHex(digest.digest()));
+  }
+}
@@ -0,0 +1,28 @@
+package com.nexerp.domain.analytics.infra.util;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.nexerp.domain.analytics.domain.ExportCompression;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내보내기 출력 스트림을 압축 스트림으로 감쌉니다.
+ * 압축 스트림을 닫으면 남은 블록/트레일러를 쓰고 원래 스트림도 닫습니다.
+ */
+public final class CompressionStreams {
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private CompressionStreams() {
+  }
+
+  public static OutputStream wrap(ExportCompression compression, OutputStream out, int zstdLevel)
+    throws IOException {
+    return switch (compression) {
+      case NONE -> out;
+      case GZIP -> new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+      case ZSTD -> new ZstdOutputStream(out, zstdLevel);
+    };
+  }
+}
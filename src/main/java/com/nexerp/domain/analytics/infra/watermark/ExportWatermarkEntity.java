@@ -0,0 +1,53 @@
+package com.nexerp.domain.analytics.infra.watermark;
+
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 증분 내보내기 워터마크 (운영 DB에 저장, 복제본은 읽기 전용이므로)
+@Entity
+@Table(name = "analytics_export_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExportWatermarkEntity {
+
+  // ExportTable 이름 (예: INVENTORY_ITEM)
+  @Id
+  @Column(name = "export_table", length = 50)
+  private String exportTable;
+
+  @Column(name = "last_exported_id", nullable = false)
+  private Long lastExportedId;
+
+  @Column(name = "last_full_snapshot_date")
+  private LocalDate lastFullSnapshotDate;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  public static ExportWatermarkEntity from(ExportWatermark watermark) {
+    ExportWatermarkEntity entity = new ExportWatermarkEntity();
+    entity.exportTable = watermark.table().name();
+    entity.update(watermark);
+    return entity;
+  }
+
+  public void update(ExportWatermark watermark) {
+    this.lastExportedId = watermark.lastExportedId();
+    this.lastFullSnapshotDate = watermark.lastFullSnapshotDate();
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public ExportWatermark toDomain() {
+    return new ExportWatermark(ExportTable.valueOf(exportTable), lastExportedId,
+      lastFullSnapshotDate);
+  }
+}
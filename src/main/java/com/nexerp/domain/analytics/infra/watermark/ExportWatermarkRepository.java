@@ -0,0 +1,7 @@
+package com.nexerp.domain.analytics.infra.watermark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ExportWatermarkRepository extends JpaRepository<ExportWatermarkEntity, String> {
+
+}
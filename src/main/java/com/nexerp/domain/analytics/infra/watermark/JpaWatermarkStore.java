@@ -0,0 +1,38 @@
+package com.nexerp.domain.analytics.infra.watermark;
+
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import com.nexerp.domain.analytics.port.WatermarkPort;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class JpaWatermarkStore implements WatermarkPort {
+
+  private final ExportWatermarkRepository repository;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<ExportWatermark> find(ExportTable table) {
+    return repository.findById(table.name())
+      .map(ExportWatermarkEntity::toDomain);
+  }
+
+  /**
+   * 전체 내보내기가 성공한 뒤 한 트랜잭션으로 모든 테이블 워터마크를 갱신합니다.
+   */
+  @Override
+  @Transactional
+  public void saveAll(Collection<ExportWatermark> watermarks) {
+    for (ExportWatermark watermark : watermarks) {
+      repository.findById(watermark.table().name())
+        .ifPresentOrElse(
+          entity -> entity.update(watermark),
+          () -> repository.save(ExportWatermarkEntity.from(watermark)));
+    }
+  }
+}
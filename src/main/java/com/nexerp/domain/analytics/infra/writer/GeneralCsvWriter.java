@@ -22,7 +22,8 @@ public class GeneralCsvWriter implements CsvWriterPort {
 
       // 1. 헤더 작성
       bw.write(toCsvLine(header));
-      bw.newLine();
+      // 서버 OS 와 관계없이 LF (TypedCsvWriter 와 같은 출력)
+      bw.write('\n');
 
       // 2. 데이터 작성
       long count = 0;
@@ -31,7 +32,7 @@ public class GeneralCsvWriter implements CsvWriterPort {
       while (iterator.hasNext()) {
         String[] row = iterator.next();
         bw.write(toCsvLine(row));
-        bw.newLine();
+        bw.write('\n');
         count++;
       }
 
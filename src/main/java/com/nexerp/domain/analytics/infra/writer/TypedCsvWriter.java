@@ -0,0 +1,317 @@
+package com.nexerp.domain.analytics.infra.writer;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.domain.ExportFormat;
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
+import com.nexerp.domain.analytics.port.RecordWriterPort;
+import com.nexerp.domain.analytics.port.RecordWriterPort.RecordSink;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타입 레코드를 String[] 없이 재사용 바이트 버퍼에 바로 인코딩하는 CSV writer
+ * - long/날짜는 박싱/문자열 생성 없이 숫자를 직접 기록
+ * - 문자열은 이스케이프와 UTF-8 인코딩을 버퍼 안에서 한 번에 처리
+ * 출력은 GeneralCsvWriter 와 바이트 단위로 같습니다.
+ */
+@Component
+public class TypedCsvWriter implements RecordWriterPort {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  // Lambda 가 읽는 고정 형식: 서버 OS 와 관계없이 LF
+  private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+  @Override
+  public ExportFormat format() {
+    return ExportFormat.CSV;
+  }
+
+  @Override
+  public long write(OutputStream out, List<ExportColumn> columns, LocalDate exportDate,
+    Stream<? extends ExportRecord> records) {
+    try (out; records) {
+      CsvLineEncoder encoder = new CsvLineEncoder(out);
+
+      // 1. 헤더 작성
+      for (ExportColumn column : columns) {
+        encoder.string(column.name());
+      }
+      encoder.endLine();
+
+      // 2. 데이터 작성
+      long count = 0;
+      var iterator = records.iterator();
+
+      while (iterator.hasNext()) {
+        iterator.next().writeFields(exportDate, encoder);
+        encoder.endLine();
+        count++;
+      }
+
+      // 3. 버퍼의 내용을 출력 스트림으로 밀어냅니다.
+      encoder.flush();
+      return count;
+
+    } catch (IOException | UncheckedIOException e) {
+      throw new IllegalStateException("CSV writing to stream failed", e);
+    }
+  }
+
+  @Override
+  public RecordSink open(OutputStream out, List<ExportColumn> columns, LocalDate exportDate)
+    throws IOException {
+    // write 와 같은 바이트 (헤더 한 줄 + 레코드마다 한 줄)
+    CsvLineEncoder encoder = new CsvLineEncoder(out);
+    for (ExportColumn column : columns) {
+      encoder.string(column.name());
+    }
+    encoder.endLine();
+    return new RecordSink() {
+      @Override
+      public void write(ExportRecord record) throws IOException {
+        record.writeFields(exportDate, encoder);
+        encoder.endLine();
+      }
+
+      @Override
+      public void close() throws IOException {
+        try (out) {
+          encoder.flush();
+        }
+      }
+    };
+  }
+
+  /**
+   * 파티션 CSV 파일들을 순서대로 이어 붙입니다. 헤더는 첫 파일 것만 남기고 나머지는 첫 줄을 건너뜁니다.
+   */
+  @Override
+  public void concat(List<Path> parts, List<ExportColumn> columns, OutputStream out)
+    throws IOException {
+    try (out) {
+      for (int i = 0; i < parts.size(); i++) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(parts.get(i)))) {
+          if (i > 0) {
+            skipHeaderLine(in);
+          }
+          in.transferTo(out);
+        }
+      }
+      out.flush();
+    }
+  }
+
+  // 헤더(컬럼 이름)에는 줄바꿈이 없으므로 첫 '\n' 까지 건너뜀
+  private static void skipHeaderLine(InputStream in) throws IOException {
+    int b;
+    while ((b = in.read()) != -1 && b != '\n') {
+      // skip
+    }
+  }
+
+  /**
+   * 한 파일을 쓰는 동안 재사용하는 바이트 버퍼 + FieldSink
+   */
+  static final class CsvLineEncoder implements FieldSink {
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    // 현재 줄에 쓴 필드 수 (구분자 판단)
+    private int fieldsInLine;
+
+    CsvLineEncoder(OutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void int64(long value) {
+      startField();
+      if (value == Long.MIN_VALUE) {
+        asciiString(Long.toString(value));
+        return;
+      }
+      // 최대 20바이트 (부호 + 19자리)
+      ensureCapacity(20);
+      if (value < 0) {
+        buffer[position++] = '-';
+        value = -value;
+      }
+      int digits = digitCount(value);
+      int end = position + digits;
+      for (int i = end - 1; i >= position; i--) {
+        buffer[i] = (byte) ('0' + (value % 10));
+        value /= 10;
+      }
+      position = end;
+    }
+
+    @Override
+    public void nullableInt64(Long value) {
+      if (value == null) {
+        startField();
+        return;
+      }
+      int64(value.longValue());
+    }
+
+    @Override
+    public void date(LocalDate value) {
+      startField();
+      if (value == null) {
+        return;
+      }
+      int year = value.getYear();
+      if (year < 0 || year > 9999) {
+        // LocalDate.toString 과 같은 표기(+10000-01-01 등)는 드문 경우라 그대로 사용
+        asciiString(value.toString());
+        return;
+      }
+      // yyyy-MM-dd
+      ensureCapacity(10);
+      writeDigits(year, 4);
+      buffer[position++] = '-';
+      writeDigits(value.getMonthValue(), 2);
+      buffer[position++] = '-';
+      writeDigits(value.getDayOfMonth(), 2);
+    }
+
+    @Override
+    public void string(String value) {
+      startField();
+      if (value == null) {
+        return;
+      }
+      // , " 줄바꿈 존재 > ""로 감싸기 (GeneralCsvWriter.escape 와 같은 규칙)
+      boolean needQuote = false;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == ',' || c == '"' || c == '\n') {
+          needQuote = true;
+          break;
+        }
+      }
+      if (needQuote) {
+        writeByte('"');
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '"') {
+          // " 존재 > ""로 대체
+          writeByte('"');
+          writeByte('"');
+        } else if (c < 0x80) {
+          writeByte(c);
+        } else {
+          i = writeUtf8(value, i);
+        }
+      }
+      if (needQuote) {
+        writeByte('"');
+      }
+    }
+
+    void endLine() throws IOException {
+      ensureCapacity(LINE_SEPARATOR.length);
+      for (byte b : LINE_SEPARATOR) {
+        buffer[position++] = b;
+      }
+      fieldsInLine = 0;
+    }
+
+    void flush() throws IOException {
+      out.write(buffer, 0, position);
+      position = 0;
+      out.flush();
+    }
+
+    private void startField() {
+      if (fieldsInLine++ > 0) {
+        writeByte(',');
+      }
+    }
+
+    private void asciiString(String value) {
+      ensureCapacity(value.length());
+      for (int i = 0; i < value.length(); i++) {
+        buffer[position++] = (byte) value.charAt(i);
+      }
+    }
+
+    // 비 ASCII 문자 하나(서로게이트 쌍이면 두 char)를 UTF-8 로 기록하고 마지막으로 읽은 인덱스 반환
+    private int writeUtf8(String value, int index) {
+      char c = value.charAt(index);
+      ensureCapacity(4);
+      if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        return index;
+      }
+      if (Character.isHighSurrogate(c) && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        return index + 1;
+      }
+      if (Character.isSurrogate(c)) {
+        // 짝이 없는 서로게이트는 OutputStreamWriter 와 같이 '?' 로 대체
+        buffer[position++] = '?';
+        return index;
+      }
+      buffer[position++] = (byte) (0xE0 | (c >> 12));
+      buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      return index;
+    }
+
+    private void writeDigits(int value, int width) {
+      for (int i = position + width - 1; i >= position; i--) {
+        buffer[i] = (byte) ('0' + (value % 10));
+        value /= 10;
+      }
+      position += width;
+    }
+
+    private void writeByte(int b) {
+      ensureCapacity(1);
+      buffer[position++] = (byte) b;
+    }
+
+    // 남은 공간이 부족하면 버퍼를 비움 (FieldSink 는 IOException 을 던질 수 없어 Unchecked 로 감쌈)
+    private void ensureCapacity(int bytes) {
+      if (position + bytes <= buffer.length) {
+        return;
+      }
+      try {
+        out.write(buffer, 0, position);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      position = 0;
+    }
+
+    private static int digitCount(long value) {
+      int digits = 1;
+      while (value >= 10) {
+        value /= 10;
+        digits++;
+      }
+      return digits;
+    }
+  }
+}
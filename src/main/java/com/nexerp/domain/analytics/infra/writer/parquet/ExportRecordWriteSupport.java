@@ -0,0 +1,121 @@
+package com.nexerp.domain.analytics.infra.writer.parquet;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.port.ExportRecord;
+import com.nexerp.domain.analytics.port.FieldSink;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+
+/**
+ * ExportRecord 를 중간 객체 없이 RecordConsumer 로 바로 기록합니다. 모든 컬럼은 optional (null 이면 필드 생략)
+ */
+class ExportRecordWriteSupport extends WriteSupport<ExportRecord> implements FieldSink {
+
+  private final List<ExportColumn> columns;
+  private final MessageType schema;
+  private final LocalDate exportDate;
+
+  private RecordConsumer consumer;
+  // 현재 레코드에서 다음에 쓸 컬럼 위치
+  private int index;
+
+  ExportRecordWriteSupport(String tableName, List<ExportColumn> columns, LocalDate exportDate) {
+    this.columns = columns;
+    this.schema = toSchema(tableName, columns);
+    this.exportDate = exportDate;
+  }
+
+  static MessageType toSchema(String tableName, List<ExportColumn> columns) {
+    Types.MessageTypeBuilder builder = Types.buildMessage();
+    for (ExportColumn column : columns) {
+      switch (column.type()) {
+        case INT64 -> builder.optional(PrimitiveTypeName.INT64).named(column.name());
+        case DATE -> builder.optional(PrimitiveTypeName.INT32)
+          .as(LogicalTypeAnnotation.dateType()).named(column.name());
+        case STRING -> builder.optional(PrimitiveTypeName.BINARY)
+          .as(LogicalTypeAnnotation.stringType()).named(column.name());
+      }
+    }
+    return builder.named(tableName);
+  }
+
+  @Override
+  public WriteContext init(Configuration configuration) {
+    return new WriteContext(schema, Map.of());
+  }
+
+  @Override
+  public void prepareForWrite(RecordConsumer recordConsumer) {
+    this.consumer = recordConsumer;
+  }
+
+  @Override
+  public void write(ExportRecord record) {
+    consumer.startMessage();
+    index = 0;
+    record.writeFields(exportDate, this);
+    if (index != columns.size()) {
+      throw new IllegalStateException(
+        "Column count mismatch: expected=" + columns.size() + " actual=" + index);
+    }
+    consumer.endMessage();
+  }
+
+  @Override
+  public void int64(long value) {
+    String name = startField();
+    consumer.addLong(value);
+    endField(name);
+  }
+
+  @Override
+  public void nullableInt64(Long value) {
+    if (value == null) {
+      index++;
+      return;
+    }
+    int64(value);
+  }
+
+  @Override
+  public void date(LocalDate value) {
+    if (value == null) {
+      index++;
+      return;
+    }
+    String name = startField();
+    consumer.addInteger((int) value.toEpochDay());
+    endField(name);
+  }
+
+  @Override
+  public void string(String value) {
+    if (value == null) {
+      index++;
+      return;
+    }
+    String name = startField();
+    consumer.addBinary(Binary.fromString(value));
+    endField(name);
+  }
+
+  private String startField() {
+    String name = columns.get(index).name();
+    consumer.startField(name, index);
+    return name;
+  }
+
+  private void endField(String name) {
+    consumer.endField(name, index);
+    index++;
+  }
+}
@@ -0,0 +1,49 @@
+package com.nexerp.domain.analytics.infra.writer.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * 로컬 파티션 파일을 Hadoop FileSystem 없이 Parquet 입력으로 읽습니다.
+ */
+class LocalPathInputFile implements InputFile {
+
+  private final Path path;
+
+  LocalPathInputFile(Path path) {
+    this.path = path;
+  }
+
+  @Override
+  public long getLength() throws IOException {
+    return Files.size(path);
+  }
+
+  @Override
+  public SeekableInputStream newStream() throws IOException {
+    FileChannel channel = FileChannel.open(path);
+    return new DelegatingSeekableInputStream(Channels.newInputStream(channel)) {
+      @Override
+      public long getPos() throws IOException {
+        return channel.position();
+      }
+
+      @Override
+      public void seek(long newPos) throws IOException {
+        channel.position(newPos);
+      }
+
+      @Override
+      public int read(ByteBuffer buf) throws IOException {
+        return channel.read(buf);
+      }
+    };
+  }
+}
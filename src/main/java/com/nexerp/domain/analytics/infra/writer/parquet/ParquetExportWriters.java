@@ -0,0 +1,85 @@
+package com.nexerp.domain.analytics.infra.writer.parquet;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.port.ExportRecord;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+public final class ParquetExportWriters {
+
+  // 페이지(인코딩/압축 단위) 크기
+  private static final int PAGE_SIZE = 1024 * 1024;
+  private static final String SCHEMA_NAME = "export_record";
+
+  private ParquetExportWriters() {
+  }
+
+  /**
+   * OutputStream 에 쓰는 ParquetWriter 를 엽니다. 딕셔너리 인코딩은 ExportColumn.dictionary() 컬럼에만 적용합니다.
+   */
+  public static ParquetWriter<ExportRecord> open(OutputStream out, List<ExportColumn> columns,
+    LocalDate exportDate, long rowGroupSize) throws IOException {
+    Builder builder = new Builder(new StreamOutputFile(out),
+      new ExportRecordWriteSupport(SCHEMA_NAME, columns, exportDate))
+      .withCompressionCodec(CompressionCodecName.SNAPPY)
+      .withRowGroupSize(rowGroupSize)
+      .withPageSize(PAGE_SIZE)
+      .withDictionaryEncoding(false);
+
+    for (ExportColumn column : columns) {
+      if (column.dictionary()) {
+        builder.withDictionaryEncoding(column.name(), true);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * 파티션 Parquet 파일들의 row group 을 다시 인코딩하지 않고 순서대로 이어 붙여 하나의 파일로 씁니다.
+   */
+  public static void concat(List<Path> parts, List<ExportColumn> columns, OutputStream out,
+    long rowGroupSize) throws IOException {
+    // 컬럼 인덱스/통계/체크섬 설정은 open() 의 ParquetWriter 기본값과 같게
+    ParquetFileWriter writer = new ParquetFileWriter(new StreamOutputFile(out),
+      ExportRecordWriteSupport.toSchema(SCHEMA_NAME, columns), ParquetFileWriter.Mode.CREATE,
+      rowGroupSize, 0, ParquetProperties.DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH,
+      ParquetProperties.DEFAULT_STATISTICS_TRUNCATE_LENGTH,
+      ParquetProperties.DEFAULT_PAGE_WRITE_CHECKSUM_ENABLED);
+    writer.start();
+    for (Path part : parts) {
+      writer.appendFile(new LocalPathInputFile(part));
+    }
+    // footer 기록 후 스트림 닫힘
+    writer.end(Map.of());
+  }
+
+  private static class Builder extends ParquetWriter.Builder<ExportRecord, Builder> {
+
+    private final ExportRecordWriteSupport writeSupport;
+
+    private Builder(StreamOutputFile file, ExportRecordWriteSupport writeSupport) {
+      super(file);
+      this.writeSupport = writeSupport;
+    }
+
+    @Override
+    protected Builder self() {
+      return this;
+    }
+
+    @Override
+    protected WriteSupport<ExportRecord> getWriteSupport(Configuration conf) {
+      return writeSupport;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.nexerp.domain.analytics.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.Getter;
+
+@Getter
+public class BackfillRequest {
+
+  @NotNull(message = "시작 날짜는 필수입니다.")
+  private LocalDate from;
+
+  // 포함, 어제 날짜까지
+  @NotNull(message = "종료 날짜는 필수입니다.")
+  private LocalDate to;
+}
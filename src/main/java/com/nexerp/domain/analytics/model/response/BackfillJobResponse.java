@@ -0,0 +1,37 @@
+package com.nexerp.domain.analytics.model.response;
+
+import com.nexerp.domain.analytics.application.AnalyticsBackfillService.BackfillJob;
+import com.nexerp.domain.analytics.application.AnalyticsBackfillService.DateState;
+import com.nexerp.domain.analytics.application.AnalyticsBackfillService.JobStatus;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BackfillJobResponse {
+
+  private final String jobId;
+  private final LocalDate from;
+  private final LocalDate to;
+  private final JobStatus status;
+  private final int totalDates;
+  private final long committedDates;
+  private final long failedDates;
+  // 실패한 날짜 -> 원인 (같은 구간으로 다시 요청하면 다시 내보냄)
+  private final Map<LocalDate, String> failures;
+
+  public static BackfillJobResponse from(BackfillJob job) {
+    return BackfillJobResponse.builder()
+      .jobId(job.id())
+      .from(job.from())
+      .to(job.to())
+      .status(job.status())
+      .totalDates(job.totalDates())
+      .committedDates(job.count(DateState.COMMITTED))
+      .failedDates(job.count(DateState.FAILED))
+      .failures(job.failures())
+      .build();
+  }
+}
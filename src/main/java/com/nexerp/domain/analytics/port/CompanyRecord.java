@@ -0,0 +1,12 @@
+package com.nexerp.domain.analytics.port;
+
+// 소속 회사 ID 와 함께 추출된 행 (회사별 분할 내보내기용)
+public record CompanyRecord(long companyId, ExportRecord record) {
+
+  // 회사를 알 수 없는 행(부모 행 없음, company_id NULL)은 company_id=0 파티션으로 모음 (ID 는 1부터)
+  public static final long NO_COMPANY = 0L;
+
+  public static CompanyRecord of(Long companyId, ExportRecord record) {
+    return new CompanyRecord(companyId != null ? companyId : NO_COMPANY, record);
+  }
+}
@@ -0,0 +1,13 @@
+package com.nexerp.domain.analytics.port;
+
+import java.time.LocalDate;
+
+// 추출된 행 하나 (*Row 레코드가 구현)
+public interface ExportRecord {
+
+  //ExtractorPort.columns() 와 같은 순서/타입으로 값을 씀
+  void writeFields(LocalDate exportDate, FieldSink sink);
+
+  //CSV 한 줄에 해당하는 문자열 배열
+  String[] toCsvArray(LocalDate exportDate);
+}
@@ -0,0 +1,16 @@
+package com.nexerp.domain.analytics.port;
+
+import com.nexerp.domain.analytics.domain.ExportRunEntry;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+// 날짜별 내보내기 실행 기록 저장소 (실패 후 재실행 시 남은 테이블만 이어서 실행)
+public interface ExportRunPort {
+
+  List<ExportRunEntry> findByDate(LocalDate date);
+
+  void save(ExportRunEntry entry);
+
+  void saveAll(Collection<ExportRunEntry> entries);
+}
@@ -1,7 +1,10 @@
 package com.nexerp.domain.analytics.port;
 
+import com.nexerp.domain.analytics.domain.ExportColumn;
 import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.IdRange;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface ExtractorPort {
@@ -9,10 +12,32 @@ public interface ExtractorPort {
   //어떤 테이블(예: Project, Inventory)을 담당
   ExportTable table();
 
+  //컬럼 이름과 타입 (CSV 헤더, 컬럼형 파일 스키마)
+  List<ExportColumn> columns();
+
   //CSV 파일의 맨 윗줄에 들어갈 컬럼 이름
-  String[] header();
+  default String[] header() {
+    return columns().stream().map(ExportColumn::name).toArray(String[]::new);
+  }
 
   //실제 DB 레코드들을 문자열 배열(String[]) 형태로 한 줄씩 가져옴
-  Stream<String[]> extractRows(LocalDate date);
-  
+  default Stream<String[]> extractRows(LocalDate date) {
+    return extractRows(date, IdRange.all());
+  }
+
+  //PK 구간 (afterId, toId] 에 해당하는 레코드만 가져옴 (증분 내보내기)
+  default Stream<String[]> extractRows(LocalDate date, IdRange range) {
+    return extractRecords(range).map(record -> record.toCsvArray(date));
+  }
+
+  //PK 구간 (afterId, toId] 에 해당하는 레코드를 타입 그대로 가져옴
+  Stream<? extends ExportRecord> extractRecords(IdRange range);
+
+  //PK 구간의 레코드를 소속 회사(company_id)와 함께 회사 ID, PK 순으로 가져옴 (회사별 분할 내보내기)
+  //회사를 알 수 없는 행도 CompanyRecord.NO_COMPANY 로 포함 (extractRecords 와 행 수가 같음)
+  Stream<CompanyRecord> extractRecordsByCompany(IdRange range);
+
+  //현재 테이블의 최대 PK (증분 워터마크 상한), 비어 있으면 0
+  long maxId();
+
 }
@@ -0,0 +1,15 @@
+package com.nexerp.domain.analytics.port;
+
+import java.time.LocalDate;
+
+// 레코드 값을 컬럼 순서대로 받는 쓰기 대상 (null 은 빈 값)
+public interface FieldSink {
+
+  void int64(long value);
+
+  void nullableInt64(Long value);
+
+  void date(LocalDate value);
+
+  void string(String value);
+}
@@ -0,0 +1,34 @@
+package com.nexerp.domain.analytics.port;
+
+import com.nexerp.domain.analytics.domain.ExportColumn;
+import com.nexerp.domain.analytics.domain.ExportFormat;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RecordWriterPort {
+
+  //담당 파일 형식
+  ExportFormat format();
+
+  //타입이 있는 레코드를 파일로 기록하고 총 행 수 반환
+  long write(OutputStream out, List<ExportColumn> columns, LocalDate exportDate,
+    Stream<? extends ExportRecord> records);
+
+  //레코드를 하나씩 받아 기록하는 sink 열기 (close 시 out 도 닫힘)
+  //한 번 읽은 레코드를 날짜별 파일 여러 개에 나눠 쓸 때 사용
+  RecordSink open(OutputStream out, List<ExportColumn> columns, LocalDate exportDate)
+    throws IOException;
+
+  //같은 형식으로 쓴 파티션 파일들을 순서대로 이어 하나의 파일로 기록 (헤더/메타데이터는 한 번만)
+  void concat(List<Path> parts, List<ExportColumn> columns, OutputStream out) throws IOException;
+
+  interface RecordSink extends Closeable {
+
+    void write(ExportRecord record) throws IOException;
+  }
+}
@@ -0,0 +1,9 @@
+package com.nexerp.domain.analytics.port;
+
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+
+// 추출 대상 복제본의 복제 지연과 부하 확인 (실패하면 예외 대신 unknown)
+public interface ReplicaHealthPort {
+
+  ReplicaHealth probe();
+}
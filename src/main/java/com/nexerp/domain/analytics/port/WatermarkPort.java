@@ -0,0 +1,14 @@
+package com.nexerp.domain.analytics.port;
+
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ExportWatermark;
+import java.util.Collection;
+import java.util.Optional;
+
+// 테이블별 증분 내보내기 워터마크 저장소
+public interface WatermarkPort {
+
+  Optional<ExportWatermark> find(ExportTable table);
+
+  void saveAll(Collection<ExportWatermark> watermarks);
+}
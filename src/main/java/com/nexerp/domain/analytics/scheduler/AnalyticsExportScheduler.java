@@ -23,12 +23,28 @@ public class AnalyticsExportScheduler {
     LocalDate date = LocalDate.now().minusDays(1);
     try {
       log.info("[AnalyticsExport] Scheduled start date={}", date);
-      orchestrator.exportAllFailFastParallel(date);
+      orchestrator.exportAll(date);
       log.info("[AnalyticsExport] Scheduled success date={}", date);
     } catch (Exception e) {
-      // 실패하면 전체 실패(fail-fast)로 끝나므로 여기서 알람/로그 처리
+      // 실패한 테이블은 실행 기록에 남아 resumeIfIncomplete 에서 이어서 내보냄, 여기서 알람/로그 처리
       log.error("[AnalyticsExport] Scheduled failed date={}", date, e);
       throw e; // 원하면 swallow(무시)해도 되지만, 보통은 로그만 남기고 끝냄
     }
   }
+
+  // 새벽 실행이 실패했으면 남은 테이블만 다시 내보냄 (이미 커밋된 날짜는 건너뜀)
+  @Scheduled(cron = "${analytics.export.resume-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+  public void resumeIfIncomplete() {
+    LocalDate date = LocalDate.now().minusDays(1);
+    if (orchestrator.isCommitted(date)) {
+      return;
+    }
+    try {
+      log.info("[AnalyticsExport] Resume start date={}", date);
+      orchestrator.exportAll(date);
+      log.info("[AnalyticsExport] Resume success date={}", date);
+    } catch (Exception e) {
+      log.error("[AnalyticsExport] Resume failed date={}", date, e);
+    }
+  }
 }
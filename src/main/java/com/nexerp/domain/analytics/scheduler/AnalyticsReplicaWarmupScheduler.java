@@ -0,0 +1,55 @@
+package com.nexerp.domain.analytics.scheduler;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsReplicaWarmupScheduler {
+
+  private final @Qualifier("analyticsReadOnlyDataSource") DataSource dataSource;
+
+  /**
+   * 02:00 내보내기 직전에 복제본 연결 풀을 최대 크기까지 채웁니다.
+   * 연결을 동시에 잡아야 풀이 새 물리 연결을 만들므로 모두 빌린 뒤 한꺼번에 반납합니다. (idle-timeout 동안 유지)
+   */
+  @Scheduled(cron = "${analytics.export.replica.warmup-cron:0 55 1 * * *}", zone = "Asia/Seoul")
+  public void warmUp() {
+    int target = (dataSource instanceof HikariDataSource hikari)
+      ? hikari.getMaximumPoolSize() : 1;
+
+    long start = System.nanoTime();
+    List<Connection> borrowed = new ArrayList<>(target);
+    try {
+      for (int i = 0; i < target; i++) {
+        Connection conn = dataSource.getConnection();
+        borrowed.add(conn);
+        if (!conn.isValid(2)) {
+          log.warn("[Analytics-ReadOnly] Warm-up got invalid connection");
+        }
+      }
+      log.info("[Analytics-ReadOnly] Warm-up done connections={} elapsedMs={}", borrowed.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    } catch (Exception e) {
+      // 예열 실패는 내보내기를 막지 않음 (내보내기에서 다시 연결 시도)
+      log.warn("[Analytics-ReadOnly] Warm-up failed after connections={}", borrowed.size(), e);
+    } finally {
+      for (Connection conn : borrowed) {
+        try {
+          conn.close();
+        } catch (Exception ignored) {
+          // 반납 실패는 풀이 정리
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.nexerp.domain.analytics.scheduler;
+
+import com.nexerp.domain.analytics.application.ExportRetentionService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsRetentionScheduler {
+
+  private final ExportRetentionService retentionService;
+
+  // 매일 보관 기간이 지난 하루치 파일 삭제 (02:00 내보내기, 04:00 재개 실행과 겹치지 않는 시각)
+  @Scheduled(cron = "${analytics.export.retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+  public void purgeExpired() {
+    try {
+      retentionService.purgeExpired(LocalDate.now());
+    } catch (Exception e) {
+      // 삭제 실패는 다음 실행에서 다시 시도
+      log.error("[Retention] Scheduled purge failed", e);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.nexerp.domain.kpi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(KpiDashboardProperties.class)
+public class KpiDashboardConfig {
+
+}
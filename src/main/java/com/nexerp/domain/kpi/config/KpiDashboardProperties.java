@@ -0,0 +1,16 @@
+package com.nexerp.domain.kpi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "kpi.dashboard")
+public record KpiDashboardProperties(
+  // 캐시에 두는 최대 회사 수
+  @DefaultValue("10000") long cacheMaxCompanies,
+  // 캐시 유지 시간(분), 스냅샷 저장 시에는 바로 무효화되므로 놓친 무효화의 상한
+  @DefaultValue("60") long cacheTtlMinutes,
+  // 브라우저가 다시 묻지 않고 쓰는 시간(초), 0 이면 매번 ETag 로 확인 (변경 없으면 304)
+  @DefaultValue("0") long browserMaxAgeSeconds
+) {
+
+}
@@ -0,0 +1,27 @@
+package com.nexerp.domain.kpi.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(KpiSyncProperties.class)
+public class KpiSyncConfig {
+
+  // 회사별 KPI 동기화 작업 (풀 크기 = 동시 동기화 회사 수)
+  @Bean(name = "kpiSyncExecutor")
+  public Executor kpiSyncExecutor(KpiSyncProperties props) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(props.concurrency());
+    executor.setMaxPoolSize(props.concurrency());
+    // 회사 수만큼 한 번에 제출되므로 큐 크기는 제한하지 않음 (작업은 회사 ID 하나만 들고 있음)
+    executor.setQueueCapacity(Integer.MAX_VALUE);
+    executor.setThreadNamePrefix("kpi-sync-");
+
+    executor.initialize();
+
+    return executor;
+  }
+}
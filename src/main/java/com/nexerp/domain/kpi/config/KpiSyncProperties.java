@@ -0,0 +1,29 @@
+package com.nexerp.domain.kpi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "kpi.sync")
+public record KpiSyncProperties(
+  // 동시에 동기화하는 회사 수 (S3 GET + 파싱 + 저장, S3 HTTP 연결 풀 50 보다 작게)
+  @DefaultValue("8") int concurrency,
+  // 초당 S3 리포트 요청 수 상한, 0 이면 제한 없음
+  @DefaultValue("50") int s3RequestsPerSecond,
+  // 날짜의 리포트 목록을 먼저 조회해 리포트가 있는 회사만 GET (s3:ListBucket 권한 필요, 실패하면 전체 GET)
+  // 리포트 키가 회사 기준이라 목록이 보관 중인 모든 날짜를 훑으므로, 날짜 기준 키가 되기 전까지 기본 꺼짐
+  @DefaultValue("false") boolean listReports,
+  // 목록 조회 최대 페이지 수 (페이지당 1000 키), 넘으면 목록을 버리고 회사별 GET
+  @DefaultValue("10") int listMaxPages,
+  // 스냅샷 일괄 upsert 한 트랜잭션의 회사 수 (실패하면 이 묶음만 재시도 대상)
+  @DefaultValue("500") int upsertBatchSize,
+  // 회사당 최대 시도 횟수 (04:00 첫 시도 포함)
+  @DefaultValue("3") int maxAttempts,
+  // 첫 재시도까지 대기(ms), 이후 2배씩 증가
+  @DefaultValue("300000") long retryDelayMs,
+  // 재시도 대상 확인 주기(ms)
+  @DefaultValue("60000") long retryCheckIntervalMs,
+  // 리포트 준비 알림(POST /internal/kpi/report-ready) 인증 토큰, 비어 있으면 알림을 받지 않음
+  String ingestToken
+) {
+
+}
@@ -1,7 +1,9 @@
 package com.nexerp.domain.kpi.controller;
 
+import com.nexerp.domain.kpi.config.KpiDashboardProperties;
 import com.nexerp.domain.kpi.model.response.KpiDashboardResponse;
 import com.nexerp.domain.kpi.model.response.ShipmentLeadTimeChartResponse;
+import com.nexerp.domain.kpi.service.KpiDashboardCache;
 import com.nexerp.domain.kpi.service.KpiSnapshotService;
 import com.nexerp.global.common.response.BaseResponse;
 import com.nexerp.global.config.SwaggerConfig;
@@ -16,11 +18,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/kpi")
 @RequiredArgsConstructor
@@ -29,6 +36,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class KpiController {
 
   private final KpiSnapshotService kpiSnapshotService;
+  private final KpiDashboardProperties dashboardProperties;
 
     @GetMapping("/dashboard")
     @Operation(
@@ -53,6 +61,8 @@ public class KpiController {
         logisticsDelayedCount: 출하 지연 업무 개수
         inventoryDelayedCount: 입고 지연 업무 개수
         
+        응답에 ETag 가 포함되며, If-None-Match 로 같은 값을 보내면 변경이 없을 때 304 (본문 없음)를 반환합니다.
+        
         """
     )
     @ApiResponses({
@@ -90,12 +100,27 @@ public class KpiController {
       )
     )
   })
-  public BaseResponse<KpiDashboardResponse> getMyCompanyDashboard(
+  public ResponseEntity<BaseResponse<KpiDashboardResponse>> getMyCompanyDashboard(
     @AuthenticationPrincipal CustomUserDetails userDetails
   ) {
-    KpiDashboardResponse response = kpiSnapshotService.getMonthlyKpi(userDetails.getMemberId());
+    // 인증 시 불러온 회원의 회사 ID 사용 (회원 재조회 없음)
+    KpiDashboardCache.CachedDashboard dashboard =
+      kpiSnapshotService.getMonthlyKpiCached(userDetails.getMember().getCompanyId());
+
+    // If-None-Match 가 ETag 와 같으면 304 로 응답
+    return ResponseEntity.ok()
+      .eTag(dashboard.etag())
+      .cacheControl(dashboardCacheControl())
+      .varyBy(HttpHeaders.AUTHORIZATION)
+      .body(BaseResponse.success(dashboard.response()));
+  }
 
-    return BaseResponse.success(response);
+  // 회사마다 다른 응답이므로 공유 캐시에는 저장하지 않음 (private)
+  private CacheControl dashboardCacheControl() {
+    long maxAge = dashboardProperties.browserMaxAgeSeconds();
+    return maxAge > 0
+      ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate()
+      : CacheControl.noCache().cachePrivate();
   }
 
   @Operation(
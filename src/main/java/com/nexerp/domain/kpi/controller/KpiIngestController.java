@@ -0,0 +1,80 @@
+package com.nexerp.domain.kpi.controller;
+
+import com.nexerp.domain.company.service.CompanyService;
+import com.nexerp.domain.kpi.config.KpiSyncProperties;
+import com.nexerp.domain.kpi.model.enums.KpiSyncOutcome;
+import com.nexerp.domain.kpi.model.request.KpiReportReadyRequest;
+import com.nexerp.domain.kpi.model.response.KpiIngestResponse;
+import com.nexerp.domain.kpi.service.KpiSyncService;
+import com.nexerp.global.common.exception.BaseException;
+import com.nexerp.global.common.exception.GlobalErrorCode;
+import com.nexerp.global.common.response.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@RestController
+@RequestMapping("/internal/kpi")
+@RequiredArgsConstructor
+@Tag(name = "KPI 리포트 수신 API", description = "KPI 분석 람다가 리포트를 저장한 직후 호출하는 내부 API")
+public class KpiIngestController {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  private final KpiSyncService kpiSyncService;
+  private final CompanyService companyService;
+  private final KpiSyncProperties props;
+
+  @PostMapping("/report-ready")
+  @Operation(
+    summary = "KPI 리포트 준비 알림 API",
+    description = """
+      회사 하나의 일일 리포트(kpi/daily-report/company-{id}/report_{date}.json)를 바로 읽어 KPI 스냅샷에 반영합니다.
+
+      - 헤더 X-Kpi-Ingest-Token 에 kpi.sync.ingest-token 값을 보내야 합니다.
+      - 같은 알림을 여러 번 보내도 (회사, 날짜) 기준 upsert 라 결과는 같습니다.
+      - 실패하면 재시도를 예약하고 outcome=FAILED 를 반환합니다. 04:00 보정 동기화에서도 다시 확인합니다.
+
+      로컬 테스트: curl -X POST localhost:3006/internal/kpi/report-ready -H 'X-Kpi-Ingest-Token: {token}'
+      -H 'Content-Type: application/json' -d '{"companyId": 1, "date": "2026-01-31"}'
+      """
+  )
+  public BaseResponse<KpiIngestResponse> reportReady(
+    @RequestHeader(value = "X-Kpi-Ingest-Token", required = false) String token,
+    @Valid @RequestBody KpiReportReadyRequest request
+  ) {
+    verifyToken(token);
+    if (request.getDate().isAfter(LocalDate.now(ZONE))) {
+      throw new BaseException(GlobalErrorCode.BAD_REQUEST, "미래 날짜의 리포트는 받을 수 없습니다.");
+    }
+    // 없는 회사면 NOT_FOUND
+    companyService.getCompanyEntity(request.getCompanyId());
+
+    KpiSyncOutcome outcome = kpiSyncService.ingestReport(request.getCompanyId(), request.getDate());
+    return BaseResponse.success(
+      KpiIngestResponse.of(request.getCompanyId(), request.getDate(), outcome));
+  }
+
+  private void verifyToken(String token) {
+    String expected = props.ingestToken();
+    if (expected == null || expected.isBlank()) {
+      throw new BaseException(GlobalErrorCode.FORBIDDEN, "리포트 준비 알림 수신이 꺼져 있습니다.");
+    }
+    // 토큰 길이/내용을 응답 시간으로 추측할 수 없도록 고정 시간 비교
+    if (token == null || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+      token.getBytes(StandardCharsets.UTF_8))) {
+      throw new BaseException(GlobalErrorCode.UNAUTHORIZED, "알림 토큰이 올바르지 않습니다.");
+    }
+  }
+}
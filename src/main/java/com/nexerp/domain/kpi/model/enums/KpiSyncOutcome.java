@@ -0,0 +1,10 @@
+package com.nexerp.domain.kpi.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum KpiSyncOutcome {
+  SYNCED,       // 리포트를 읽어 스냅샷 저장
+  NO_ACTIVITY,  // 리포트 없음 (활동이 없는 날)
+  FAILED        // S3 / 파싱 / 저장 오류 (재시도 대상)
+}
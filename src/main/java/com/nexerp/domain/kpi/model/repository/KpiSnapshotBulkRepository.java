@@ -0,0 +1,109 @@
+package com.nexerp.domain.kpi.model.repository;
+
+import com.nexerp.domain.kpi.model.response.IntegratedKpiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * kpi_snapshot 일괄 upsert (uk_kpi_company_date 기준 INSERT ... ON DUPLICATE KEY UPDATE)
+ * IDENTITY 전략이라 JPA saveAll 은 행마다 INSERT 를 보내므로, 여러 행 VALUES 한 문장으로 묶고
+ * 같은 크기의 문장들은 JDBC 배치 한 번으로 보냅니다. (ROWS_PER_STATEMENT 행 = 왕복 1회)
+ * 갱신 컬럼은 KpiSnapshot.updateAllMetrics 와 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class KpiSnapshotBulkRepository {
+
+  // 문장 하나의 최대 행 수 (바인드 변수 = 행 수 x 컬럼 수, MySQL 상한 65535 보다 충분히 작게)
+  static final int ROWS_PER_STATEMENT = 500;
+
+  private static final List<String> COLUMNS = List.of(
+    "company_id", "snapshot_date",
+    "project_completion_rate", "long_term_task_rate", "safety_stock_rate", "turn_over_rate",
+    "shipment_lead_time_avg", "shipping_completion_rate",
+    "pred_turn_over_rate", "pred_shipment_lead_time",
+    "total_task_count", "logistics_task_count", "inventory_task_count",
+    "total_delayed_count", "logistics_delayed_count", "inventory_delayed_count",
+    "calculated_at");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 같은 (회사, 날짜)가 여러 번 있으면 마지막 리포트만 반영합니다.
+   * @return 반영한 (회사, 날짜) 수
+   */
+  public int upsertAll(List<IntegratedKpiResponse> responses) {
+    Map<String, Object[]> rowsByKey = new LinkedHashMap<>();
+    for (IntegratedKpiResponse response : responses) {
+      rowsByKey.put(response.getCompanyId() + "|" + response.getSnapshotDate(), toRow(response));
+    }
+    List<Object[]> rows = new ArrayList<>(rowsByKey.values());
+
+    List<Object[]> fullStatements = new ArrayList<>();
+    int from = 0;
+    for (; from + ROWS_PER_STATEMENT <= rows.size(); from += ROWS_PER_STATEMENT) {
+      fullStatements.add(flatten(rows.subList(from, from + ROWS_PER_STATEMENT)));
+    }
+    if (!fullStatements.isEmpty()) {
+      jdbcTemplate.batchUpdate(upsertSql(ROWS_PER_STATEMENT), fullStatements);
+    }
+    if (from < rows.size()) {
+      List<Object[]> rest = rows.subList(from, rows.size());
+      jdbcTemplate.update(upsertSql(rest.size()), flatten(rest));
+    }
+    return rows.size();
+  }
+
+  private static String upsertSql(int rowCount) {
+    String placeholders = COLUMNS.stream().map(column -> "?")
+      .collect(Collectors.joining(", ", "(", ")"));
+    // company_id, snapshot_date 는 키이므로 갱신하지 않음
+    // VALUES(col) 은 MySQL 8.0.20 부터 deprecated 이므로 행 별칭(new)으로 참조
+    String updates = COLUMNS.subList(2, COLUMNS.size()).stream()
+      .map(column -> column + " = new." + column)
+      .collect(Collectors.joining(", "));
+    return "INSERT INTO kpi_snapshot (" + String.join(", ", COLUMNS) + ") VALUES "
+      + String.join(", ", Collections.nCopies(rowCount, placeholders))
+      + " AS new ON DUPLICATE KEY UPDATE " + updates;
+  }
+
+  private static Object[] toRow(IntegratedKpiResponse response) {
+    IntegratedKpiResponse.Metrics metrics = response.getMetrics();
+    LocalDate snapshotDate = response.toSnapshotDate();
+    return new Object[]{
+      response.getCompanyId(),
+      Date.valueOf(snapshotDate),
+      metrics.getProjectCompletionRate(),
+      metrics.getLongTermTaskRate(),
+      metrics.getSafetyStockRate(),
+      metrics.getTurnOverRate(),
+      metrics.getShipmentLeadTimeAvg(),
+      metrics.getShippingCompletionRate(),
+      metrics.getPredTurnOverRate(),
+      metrics.getPredShipmentLeadTime(),
+      metrics.getTotalTaskCount(),
+      metrics.getLogisticsTaskCount(),
+      metrics.getInventoryTaskCount(),
+      metrics.getTotalDelayedCount(),
+      metrics.getLogisticsDelayedCount(),
+      metrics.getInventoryDelayedCount(),
+      Timestamp.valueOf(response.toCalculatedAt())
+    };
+  }
+
+  private static Object[] flatten(List<Object[]> rows) {
+    return rows.stream().flatMap(Arrays::stream).toArray();
+  }
+}
@@ -0,0 +1,17 @@
+package com.nexerp.domain.kpi.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class KpiReportReadyRequest {
+
+  @NotNull(message = "회사 ID는 필수입니다.")
+  private Long companyId;
+
+  // 리포트 기준 날짜 (report_{date}.json)
+  @NotNull(message = "리포트 날짜는 필수입니다.")
+  private LocalDate date;
+}
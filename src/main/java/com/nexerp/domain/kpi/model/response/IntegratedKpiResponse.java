@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -13,6 +16,15 @@ public class IntegratedKpiResponse {
   private Metrics metrics;
   private String calculatedAt;
 
+  public LocalDate toSnapshotDate() {
+    return LocalDate.parse(snapshotDate);
+  }
+
+  // 람다가 오프셋(+09:00)을 붙여 보내므로 로컬 시각만 사용
+  public LocalDateTime toCalculatedAt() {
+    return LocalDateTime.parse(calculatedAt.split("\\+")[0]);
+  }
+
   @Getter
   @Builder
   @AllArgsConstructor
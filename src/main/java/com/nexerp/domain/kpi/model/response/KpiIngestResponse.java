@@ -0,0 +1,25 @@
+package com.nexerp.domain.kpi.model.response;
+
+import com.nexerp.domain.kpi.model.enums.KpiSyncOutcome;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class KpiIngestResponse {
+
+  private final Long companyId;
+  private final LocalDate date;
+  // SYNCED: 저장 완료, NO_ACTIVITY: 리포트 없음, FAILED: 재시도 예약 (04:00 보정 동기화에서도 다시 확인)
+  private final KpiSyncOutcome outcome;
+
+  public static KpiIngestResponse of(Long companyId, LocalDate date, KpiSyncOutcome outcome) {
+    return KpiIngestResponse.builder()
+      .companyId(companyId)
+      .date(date)
+      .outcome(outcome)
+      .build();
+  }
+}
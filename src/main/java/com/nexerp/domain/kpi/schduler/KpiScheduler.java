@@ -1,10 +1,8 @@
 package com.nexerp.domain.kpi.schduler;
 
-import com.nexerp.domain.kpi.service.KpiHistoryService;
-import com.nexerp.domain.kpi.service.KpiIntegrationService;
 import com.nexerp.domain.company.service.CompanyService;
-import com.nexerp.domain.kpi.service.KpiSnapshotService;
-import jakarta.annotation.PostConstruct;
+import com.nexerp.domain.kpi.service.KpiSyncService;
+import com.nexerp.domain.kpi.service.KpiSyncService.KpiSyncSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,18 +10,16 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KpiScheduler {
 
-  private final KpiHistoryService historyService;
-  private final KpiIntegrationService kpiIntegrationService;
-  private final KpiSnapshotService snapshotService;
+  private final KpiSyncService kpiSyncService;
   private final CompanyService companyService;
 
+  // 리포트 준비 알림으로 대부분 이미 반영되어 있고, 빠진 알림/실패를 보정 (upsert 라 다시 써도 같음)
   @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
   public void scheduleKpiSync() {
 
@@ -35,15 +31,20 @@ public class KpiScheduler {
 
     log.info("KPI 동기화 시작: 대상 회사 {}건, 기준 날짜: {}", allCompanyIds.size(), targetDate);
 
-    for (Long companyId : allCompanyIds) {
-      try {
-        kpiIntegrationService.syncIntegratedKpiFromS3(companyId, targetDate);
-      } catch (Exception e) {
-        log.error("회사 ID {}의 KPI 동기화 중 오류 발생: {}", companyId, e.getMessage());
-      }
-    }
+    // 3. 회사별 병렬 동기화, 실패한 회사는 재시도 예약
+    KpiSyncSummary summary = kpiSyncService.syncCompanies(allCompanyIds, targetDate);
 
-    log.info("KPI 동기화 프로세스 완료");
+    log.info("KPI 동기화 프로세스 완료: {}", summary);
   }
 
+  // 실패한 회사 재시도 (대기 시간이 지난 회사만)
+  @Scheduled(fixedDelayString = "${kpi.sync.retry-check-interval-ms:60000}",
+    initialDelayString = "${kpi.sync.retry-check-interval-ms:60000}")
+  public void retryFailedKpiSync() {
+    try {
+      kpiSyncService.retryDue();
+    } catch (Exception e) {
+      log.error("KPI 동기화 재시도 중 오류 발생", e);
+    }
+  }
 }
@@ -0,0 +1,93 @@
+package com.nexerp.domain.kpi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexerp.domain.kpi.config.KpiDashboardProperties;
+import com.nexerp.domain.kpi.model.response.KpiDashboardResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 회사별 전월 KPI 대시보드 캐시 (하루에 한 번 바뀌는 데이터를 페이지 로드마다 조회하지 않도록)
+ * - 키: (회사, 기준 날짜) 이므로 달이 바뀌면 새 키로 다시 조회 (이전 달 항목은 TTL 로 만료)
+ * - 스냅샷을 저장한 트랜잭션이 커밋되면 그 회사 항목을 무효화 (TTL 은 놓친 무효화의 상한)
+ * - 조회 중인 키의 무효화는 조회가 끝날 때까지 기다리므로 커밋 전 값이 남지 않음
+ */
+@Component
+public class KpiDashboardCache {
+
+  private final Cache<DashboardKey, CachedDashboard> cache;
+  private final ObjectMapper objectMapper;
+
+  public KpiDashboardCache(KpiDashboardProperties props, ObjectMapper objectMapper) {
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(props.cacheMaxCompanies())
+      .expireAfterWrite(Duration.ofMinutes(props.cacheTtlMinutes()))
+      .build();
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 캐시에 없으면 loader 로 조회해 저장합니다. (같은 키의 동시 조회는 한 번만 실행)
+   * loader 의 예외는 저장하지 않고 그대로 던짐
+   */
+  public CachedDashboard get(Long companyId, LocalDate targetDate,
+    Supplier<KpiDashboardResponse> loader) {
+    return cache.get(new DashboardKey(companyId, targetDate), key -> {
+      KpiDashboardResponse response = loader.get();
+      return new CachedDashboard(response, etagOf(response));
+    });
+  }
+
+  // 스냅샷 저장 트랜잭션이 커밋된 뒤 무효화 (트랜잭션 밖이면 바로)
+  public void evictAfterCommit(Collection<Long> companyIds) {
+    List<Long> ids = companyIds.stream().distinct().toList();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(ids);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          evict(ids);
+        }
+      }
+    });
+  }
+
+  // 지금 조회되는 기준 날짜(전월 말일, KpiSnapshotService 와 같음)의 키만 무효화
+  private void evict(List<Long> companyIds) {
+    LocalDate targetDate = LocalDate.now().withDayOfMonth(1).minusDays(1);
+    cache.invalidateAll(companyIds.stream()
+      .map(companyId -> new DashboardKey(companyId, targetDate))
+      .toList());
+  }
+
+  // 응답 본문(result) 기준 약한 ETag, BaseResponse 의 timestamp 는 요청마다 달라 제외
+  private String etagOf(KpiDashboardResponse response) {
+    try {
+      return "W/\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response)) + "\"";
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("KPI 대시보드 ETag 계산 실패", e);
+    }
+  }
+
+  private record DashboardKey(Long companyId, LocalDate targetDate) {
+
+  }
+
+  public record CachedDashboard(KpiDashboardResponse response, String etag) {
+
+  }
+}
@@ -10,9 +10,20 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -20,32 +31,63 @@ import java.time.LocalDate;
 public class KpiIntegrationService {
 
   private final S3Client s3Client;
-  private final KpiSnapshotService kpiSnapshotService;
   private final ObjectMapper objectMapper;
 
+  // 람다가 회사별로 쓰는 일일 리포트: kpi/daily-report/company-{id}/report_{date}.json
+  private static final String DAILY_REPORT_PREFIX = "kpi/daily-report/";
+  private static final Pattern DAILY_REPORT_KEY = Pattern.compile(
+    "^kpi/daily-report/company-(\\d+)/report_(\\d{4}-\\d{2}-\\d{2})\\.json$");
+
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
 
-  public void syncIntegratedKpiFromS3(Long companyId, LocalDate date) {
+  // S3 리포트를 읽어 파싱만 함 (저장은 호출 측에서 일괄 처리), 리포트가 없으면 empty
+  // 실패하면 예외를 던짐 (재시도 여부는 KpiSyncService 가 결정)
+  public Optional<IntegratedKpiResponse> fetchIntegratedKpi(Long companyId, LocalDate date) {
     // 1. S3 경로 구성 (람다의 저장 규칙과 일치)
-    String key = String.format("kpi/daily-report/company-%d/report_%s.json",
+    String key = DAILY_REPORT_PREFIX + String.format("company-%d/report_%s.json",
       companyId, date.toString());
 
     try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(
       GetObjectRequest.builder().bucket(bucket).key(key).build())) {
 
       // 2. 통합 JSON 파싱
-      IntegratedKpiResponse response = objectMapper.readValue(s3Object, IntegratedKpiResponse.class);
+      return Optional.of(objectMapper.readValue(s3Object, IntegratedKpiResponse.class));
+    } catch (NoSuchKeyException e) {
+      // 파일이 없는 경우: 활동이 없는 날이므로 실패가 아님
+      log.debug("No KPI report found in S3 for Company: {} at date: {} (No activity)", companyId, date);
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read Integrated KPI report from S3: " + key, e);
+    }
+  }
 
-      // 3. DB 저장 로직 호출
-      kpiSnapshotService.saveIntegratedResult(response);
+  /**
+   * 날짜의 일일 리포트가 있는 회사 ID (kpi/daily-report/ 페이지 단위 목록 조회, 1000 키당 요청 1회)
+   * 키가 회사 기준으로 정렬되어 있어 다른 날짜의 리포트도 함께 훑으므로, 목록 비용은 보관 중인 리포트 수에 비례
+   * maxPages 페이지를 넘으면 회사별 GET 보다 비싸지므로 중단하고 empty
+   */
+  public Optional<Set<Long>> listReportedCompanyIds(LocalDate date, int maxPages) {
+    String dateText = date.toString();
+    ListObjectsV2Iterable pages = s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+      .bucket(bucket)
+      .prefix(DAILY_REPORT_PREFIX)
+      .build());
 
-      log.info("Successfully synced Integrated KPI for Company: {}, Date: {}", companyId, date);
-    } catch (NoSuchKeyException e) {
-      // 파일이 없는 경우: 활동이 없는 날이므로 경고나 에러가 아닌 정보성 로그만 남김
-      log.info("No KPI report found in S3 for Company: {} at date: {} (No activity)", companyId, date);
-    } catch (Exception e) {
-      log.error("Failed to sync Integrated KPI from S3: {}", key, e);
+    Set<Long> companyIds = new HashSet<>();
+    int pageCount = 0;
+    for (ListObjectsV2Response page : pages) {
+      if (++pageCount > maxPages) {
+        log.info("KPI 리포트 목록이 {}페이지를 넘어 조회를 중단합니다. (날짜: {})", maxPages, date);
+        return Optional.empty();
+      }
+      for (S3Object object : page.contents()) {
+        Matcher matcher = DAILY_REPORT_KEY.matcher(object.key());
+        if (matcher.matches() && matcher.group(2).equals(dateText)) {
+          companyIds.add(Long.valueOf(matcher.group(1)));
+        }
+      }
     }
+    return Optional.of(companyIds);
   }
 }
@@ -1,6 +1,7 @@
 package com.nexerp.domain.kpi.service;
 
 import com.nexerp.domain.kpi.model.entity.KpiSnapshot;
+import com.nexerp.domain.kpi.model.repository.KpiSnapshotBulkRepository;
 import com.nexerp.domain.kpi.model.repository.KpiSnapshotRepository;
 import com.nexerp.domain.kpi.model.response.IntegratedKpiResponse;
 import com.nexerp.domain.kpi.model.response.KpiDashboardResponse;
@@ -23,31 +24,32 @@ import java.util.stream.Collectors;
 public class KpiSnapshotService {
   private final KpiHistoryService historyService;
   private final KpiSnapshotRepository snapshotRepository;
+  private final KpiSnapshotBulkRepository snapshotBulkRepository;
   private final MemberService memberService;
+  private final KpiDashboardCache dashboardCache;
 
+  // 여러 회사의 리포트를 (회사, 날짜) 기준 일괄 upsert (한 트랜잭션)
   @Transactional
-  public void saveIntegratedResult(IntegratedKpiResponse response) {
-    LocalDate date = LocalDate.parse(response.getSnapshotDate());
-
-    KpiSnapshot snapshot = snapshotRepository.findByCompanyIdAndSnapshotDate(response.getCompanyId(), date)
-      .orElseGet(() -> KpiSnapshot.builder()
-        .companyId(response.getCompanyId())
-        .snapshotDate(date)
-        .build());
-
-    // 모든 지표 한 번에 업데이트
-    snapshot.updateAllMetrics(response.getMetrics(), LocalDateTime.parse(response.getCalculatedAt().split("\\+")[0]));
-
-    snapshotRepository.save(snapshot);
+  public int saveIntegratedResults(List<IntegratedKpiResponse> responses) {
+    int saved = snapshotBulkRepository.upsertAll(responses);
+    dashboardCache.evictAfterCommit(
+      responses.stream().map(IntegratedKpiResponse::getCompanyId).toList());
+    return saved;
   }
 
-  @Transactional(readOnly=true)
-  public KpiDashboardResponse getMonthlyKpi(Long memberId) {
-    Long companyId = memberService.getCompanyIdByMemberId(memberId);
-
+  // 회사별 캐시를 먼저 확인 (트랜잭션 없이 호출하면 캐시 적중 시 DB 연결을 잡지 않음)
+  public KpiDashboardCache.CachedDashboard getMonthlyKpiCached(Long companyId) {
+    if (companyId == null) {
+      throw new BaseException(GlobalErrorCode.NOT_FOUND, "소속된 회사가 없습니다.");
+    }
     // 전월 말일 계산
     LocalDate lastDayOfPrevMonth = LocalDate.now().withDayOfMonth(1).minusDays(1);
 
+    return dashboardCache.get(companyId, lastDayOfPrevMonth,
+      () -> findMonthlyKpi(companyId, lastDayOfPrevMonth));
+  }
+
+  private KpiDashboardResponse findMonthlyKpi(Long companyId, LocalDate lastDayOfPrevMonth) {
     return snapshotRepository.findByCompanyIdAndSnapshotDate(companyId, lastDayOfPrevMonth)
       .map(KpiDashboardResponse::from)
       // 만약 없으면, DB 내 해당 회사의 가장 최신 스냅샷 조회
@@ -111,5 +113,6 @@ public class KpiSnapshotService {
         snapshotRepository.save(historySnapshot);
       }
     }
+    dashboardCache.evictAfterCommit(List.of(companyId));
   }
 }
@@ -0,0 +1,266 @@
+package com.nexerp.domain.kpi.service;
+
+import com.nexerp.domain.kpi.config.KpiSyncProperties;
+import com.nexerp.domain.kpi.model.enums.KpiSyncOutcome;
+import com.nexerp.domain.kpi.model.response.IntegratedKpiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회사별 KPI 리포트 동기화를 kpiSyncExecutor 에서 병렬로 실행합니다.
+ * - list-reports 면 날짜의 리포트 목록을 먼저 조회해 목록에 없는 회사는 요청 없이 NO_ACTIVITY
+ *   (목록이 list-max-pages 페이지를 넘으면 회사별 GET)
+ * - 리포트 읽기/파싱은 회사별로 병렬 (동시 실행 수 kpi.sync.concurrency, S3 요청은 초당 s3-requests-per-second 개까지)
+ * - 읽은 리포트는 upsert-batch-size 개씩 한 트랜잭션으로 일괄 upsert (KpiSnapshotBulkRepository)
+ * - 회사별 결과(SYNCED / NO_ACTIVITY / FAILED)를 모아 실행 요약으로 반환
+ * - 실패한 회사는 retry-delay-ms 뒤부터 2배씩 늘려 max-attempts 까지 다시 시도
+ *   (재시도 목록은 메모리에만 보관, 재시작하면 다음 날 04:00 실행에서 다시 동기화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KpiSyncService {
+
+  private final KpiIntegrationService kpiIntegrationService;
+  private final KpiSnapshotService kpiSnapshotService;
+  private final KpiSyncProperties props;
+  private final @Qualifier("kpiSyncExecutor") Executor kpiSyncExecutor;
+
+  // 재시도 대기 중인 (회사, 날짜)
+  private final Map<RetryKey, PendingRetry> pendingRetries = new ConcurrentHashMap<>();
+
+  // S3 요청 간격 조절 (다음 요청을 보낼 수 있는 시각)
+  private long nextRequestNanos = System.nanoTime();
+
+  public KpiSyncSummary syncCompanies(List<Long> companyIds, LocalDate date) {
+    return sync(companyIds, date, props.listReports());
+  }
+
+  private KpiSyncSummary sync(List<Long> companyIds, LocalDate date, boolean listReports) {
+    long start = System.nanoTime();
+    List<CompanyResult> results = new ArrayList<>(companyIds.size());
+    List<Long> toFetch = companyIds;
+    Optional<Set<Long>> reported = listReports ? listReported(date) : Optional.empty();
+    if (reported.isPresent()) {
+      toFetch = new ArrayList<>();
+      for (Long companyId : companyIds) {
+        if (reported.get().contains(companyId)) {
+          toFetch.add(companyId);
+        } else {
+          pendingRetries.remove(new RetryKey(companyId, date));
+          results.add(new CompanyResult(companyId, KpiSyncOutcome.NO_ACTIVITY, null, null));
+        }
+      }
+      log.info("KPI 리포트 목록: 날짜 {}, 리포트 {}건, 내려받을 회사 {}건", date, reported.get().size(),
+        toFetch.size());
+    }
+
+    List<CompletableFuture<CompanyResult>> futures = toFetch.stream()
+      .map(companyId -> CompletableFuture.supplyAsync(() -> fetchOne(companyId, date),
+        kpiSyncExecutor))
+      .toList();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    List<CompanyResult> fetched = new ArrayList<>();
+    for (CompletableFuture<CompanyResult> future : futures) {
+      CompanyResult result = future.join();
+      (result.report() != null ? fetched : results).add(result);
+    }
+    results.addAll(saveFetched(fetched, date));
+
+    KpiSyncSummary summary = KpiSyncSummary.of(date, results,
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    summary.failures().keySet().forEach(companyId -> scheduleRetry(companyId, date));
+    return summary;
+  }
+
+  /**
+   * 리포트 준비 알림으로 회사 하나의 리포트를 바로 반영합니다. (같은 알림이 여러 번 와도 upsert 라 결과는 같음)
+   * 실패하면 재시도를 예약하고 FAILED 를 반환
+   */
+  public KpiSyncOutcome ingestReport(Long companyId, LocalDate date) {
+    CompanyResult result = fetchOne(companyId, date);
+    if (result.report() != null) {
+      result = saveFetched(List.of(result), date).get(0);
+    }
+    if (result.outcome() == KpiSyncOutcome.FAILED) {
+      scheduleRetry(companyId, date);
+    }
+    log.info("KPI 리포트 알림 반영: 회사 ID {}, 날짜 {}, 결과 {}", companyId, date, result.outcome());
+    return result.outcome();
+  }
+
+  /**
+   * 대기 시간이 지난 실패 회사를 다시 동기화합니다. (KpiScheduler 가 주기적으로 호출)
+   */
+  public void retryDue() {
+    long now = System.nanoTime();
+    Map<LocalDate, List<Long>> dueByDate = new TreeMap<>();
+    pendingRetries.forEach((key, retry) -> {
+      if (retry.dueAtNanos() - now <= 0) {
+        dueByDate.computeIfAbsent(key.date(), date -> new ArrayList<>()).add(key.companyId());
+      }
+    });
+    dueByDate.forEach((date, companyIds) -> {
+      log.info("KPI 동기화 재시도: 날짜 {}, 회사 {}건", date, companyIds.size());
+      // 실패한 회사 몇 곳이므로 목록 조회 없이 바로 GET
+      KpiSyncSummary summary = sync(companyIds, date, false);
+      log.info("KPI 동기화 재시도 완료: {}", summary);
+    });
+  }
+
+  // 목록 조회에 실패하거나 페이지 상한을 넘으면 empty (모든 회사를 GET 으로 확인)
+  private Optional<Set<Long>> listReported(LocalDate date) {
+    try {
+      awaitS3RequestSlot();
+      return kpiIntegrationService.listReportedCompanyIds(date, props.listMaxPages());
+    } catch (Exception e) {
+      log.warn("KPI 리포트 목록 조회 실패, 회사별 GET 으로 확인합니다. (날짜: {})", date, e);
+      return Optional.empty();
+    }
+  }
+
+  // 리포트를 읽기만 함, 저장할 리포트가 있으면 report 가 채워짐
+  private CompanyResult fetchOne(Long companyId, LocalDate date) {
+    try {
+      awaitS3RequestSlot();
+      Optional<IntegratedKpiResponse> report = kpiIntegrationService.fetchIntegratedKpi(companyId,
+        date);
+      if (report.isEmpty()) {
+        pendingRetries.remove(new RetryKey(companyId, date));
+        return new CompanyResult(companyId, KpiSyncOutcome.NO_ACTIVITY, null, null);
+      }
+      return new CompanyResult(companyId, null, report.get(), null);
+    } catch (Exception e) {
+      log.warn("회사 ID {}의 KPI 리포트 읽기 실패 (날짜: {})", companyId, date, e);
+      return CompanyResult.failed(companyId, e);
+    }
+  }
+
+  // 묶음 단위 일괄 upsert, 실패한 묶음의 회사만 FAILED
+  private List<CompanyResult> saveFetched(List<CompanyResult> fetched, LocalDate date) {
+    List<CompanyResult> results = new ArrayList<>(fetched.size());
+    int batchSize = Math.max(1, props.upsertBatchSize());
+    for (int from = 0; from < fetched.size(); from += batchSize) {
+      List<CompanyResult> batch = fetched.subList(from, Math.min(from + batchSize, fetched.size()));
+      try {
+        kpiSnapshotService.saveIntegratedResults(batch.stream().map(CompanyResult::report).toList());
+        for (CompanyResult result : batch) {
+          pendingRetries.remove(new RetryKey(result.companyId(), date));
+          results.add(new CompanyResult(result.companyId(), KpiSyncOutcome.SYNCED, null, null));
+        }
+      } catch (Exception e) {
+        log.warn("KPI 스냅샷 일괄 저장 실패 (날짜: {}, 회사 {}건)", date, batch.size(), e);
+        batch.forEach(result -> results.add(CompanyResult.failed(result.companyId(), e)));
+      }
+    }
+    return results;
+  }
+
+  private void scheduleRetry(Long companyId, LocalDate date) {
+    PendingRetry retry = pendingRetries.compute(new RetryKey(companyId, date), (key, previous) -> {
+      // 첫 실패 = 시도 1회
+      int attempts = previous == null ? 1 : previous.attempts() + 1;
+      if (attempts >= props.maxAttempts()) {
+        return null;
+      }
+      long delayMs = props.retryDelayMs() << Math.min(attempts - 1, 16);
+      return new PendingRetry(attempts, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs));
+    });
+    if (retry == null) {
+      log.error("회사 ID {}의 KPI 동기화를 {}회 실패해 재시도를 중단합니다. (날짜: {})", companyId,
+        props.maxAttempts(), date);
+    }
+  }
+
+  // 요청마다 간격만큼 다음 시각을 예약하고, 예약한 시각까지 기다림
+  private void awaitS3RequestSlot() {
+    if (props.s3RequestsPerSecond() <= 0) {
+      return;
+    }
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / props.s3RequestsPerSecond();
+    long slot;
+    synchronized (this) {
+      long now = System.nanoTime();
+      slot = Math.max(now, nextRequestNanos);
+      nextRequestNanos = slot + intervalNanos;
+    }
+    long waitNanos = slot - System.nanoTime();
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("S3 요청 대기 중 인터럽트", e);
+      }
+    }
+  }
+
+  private record RetryKey(Long companyId, LocalDate date) {
+
+  }
+
+  private record PendingRetry(int attempts, long dueAtNanos) {
+
+  }
+
+  private record CompanyResult(Long companyId, KpiSyncOutcome outcome,
+                               IntegratedKpiResponse report, String failure) {
+
+    static CompanyResult failed(Long companyId, Exception e) {
+      return new CompanyResult(companyId, KpiSyncOutcome.FAILED, null,
+        String.valueOf(e.getMessage()));
+    }
+  }
+
+  /**
+   * 동기화 실행 한 번의 결과 (실패 회사 -> 원인)
+   */
+  public record KpiSyncSummary(LocalDate date, Map<KpiSyncOutcome, Integer> counts,
+                               Map<Long, String> failures, long elapsedMs) {
+
+    private static KpiSyncSummary of(LocalDate date, List<CompanyResult> results, long elapsedMs) {
+      Map<KpiSyncOutcome, Integer> counts = new EnumMap<>(KpiSyncOutcome.class);
+      for (KpiSyncOutcome outcome : KpiSyncOutcome.values()) {
+        counts.put(outcome, 0);
+      }
+      Map<Long, String> failures = new TreeMap<>();
+      for (CompanyResult result : results) {
+        counts.merge(result.outcome(), 1, Integer::sum);
+        if (result.outcome() == KpiSyncOutcome.FAILED) {
+          failures.put(result.companyId(), result.failure());
+        }
+      }
+      return new KpiSyncSummary(date, Collections.unmodifiableMap(counts),
+        Collections.unmodifiableMap(failures), elapsedMs);
+    }
+
+    public int count(KpiSyncOutcome outcome) {
+      return counts.getOrDefault(outcome, 0);
+    }
+
+    @Override
+    public String toString() {
+      return "날짜=" + date + " 동기화=" + count(KpiSyncOutcome.SYNCED)
+        + " 활동 없음=" + count(KpiSyncOutcome.NO_ACTIVITY)
+        + " 실패=" + count(KpiSyncOutcome.FAILED) + failures.keySet()
+        + " 소요(ms)=" + elapsedMs;
+    }
+  }
+}
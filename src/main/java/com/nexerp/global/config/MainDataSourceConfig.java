@@ -7,6 +7,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 public class MainDataSourceConfig {
@@ -25,4 +26,11 @@ public class MainDataSourceConfig {
   ) {
     return props.initializeDataSourceBuilder().build();
   }
+
+  // 주 DB JdbcTemplate (readOnlyJdbcTemplate 이 있어 자동 구성되지 않으므로 직접 등록)
+  @Bean(name = "jdbcTemplate")
+  @Primary
+  public JdbcTemplate jdbcTemplate(@Qualifier("dataSource") DataSource dataSource) {
+    return new JdbcTemplate(dataSource);
+  }
 }
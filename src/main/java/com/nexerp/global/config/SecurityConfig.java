@@ -3,6 +3,7 @@ package com.nexerp.global.config;
 import com.nexerp.global.security.jwt.JwtAuthenticationFilter;
 import com.nexerp.global.security.permission.CustomPermissionEvaluator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -17,6 +18,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @EnableMethodSecurity(prePostEnabled = true)
 @Configuration
@@ -26,6 +29,12 @@ public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+  @Value("${server.port:8080}")
+  private int serverPort;
+
+  @Value("${management.server.port:${server.port:8080}}")
+  private int managementPort;
+
   // 비밀번호 해시화
   @Bean
   public PasswordEncoder passwordEncoder() {
@@ -46,6 +55,11 @@ public class SecurityConfig {
         .requestMatchers("/health").permitAll()
         .requestMatchers("/swagger-ui/**").permitAll()
         .requestMatchers("/v3/api-docs/**").permitAll()
+        // Prometheus 스크레이프 (management.server.port 가 따로 있을 때 그 포트로 들어온 요청만)
+        .requestMatchers(prometheusOnManagementPort()).permitAll()
+
+        // KPI 리포트 준비 알림 (람다 -> 서버, 토큰은 컨트롤러에서 확인)
+        .requestMatchers("/internal/kpi/**").permitAll()
 
         // 인사 관리 도메인
         .requestMatchers("/admin/**").authenticated()
@@ -68,6 +82,14 @@ public class SecurityConfig {
     return http.build();
   }
 
+  // 관리 포트가 앱 포트와 같으면(MANAGEMENT_PORT=3006 등) 어떤 요청도 허용하지 않음 (인증 필요)
+  private RequestMatcher prometheusOnManagementPort() {
+    AntPathRequestMatcher path = new AntPathRequestMatcher("/actuator/prometheus");
+    boolean separatePort = managementPort != serverPort;
+    return request -> separatePort && request.getLocalPort() == managementPort
+      && path.matches(request);
+  }
+
   // AuthenticationManager 등록
   // AuthenticationManager는 사용자가 입력한 id/pw를 받고, CustomUserDetailsService로 DB에서 사용자 정보 조회하고, 비밀번호 검증
   @Bean
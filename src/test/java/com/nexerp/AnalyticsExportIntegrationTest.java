@@ -53,7 +53,7 @@ class AnalyticsExportIntegrationTest {
 
     // When
     // (1) 병렬 추출 실행
-    Map<ExportTable, ExportResult> results = orchestrator.exportAllFailFastParallel(targetDate);
+    Map<ExportTable, ExportResult> results = orchestrator.exportAll(targetDate);
 
     // Then
     assertThat(results).isNotEmpty();
@@ -61,7 +61,8 @@ class AnalyticsExportIntegrationTest {
 
     for (ExportResult result : results.values()) {
       // (2) ExportResult에 path가 없으므로 storage를 통해 파일 경로를 다시 계산합니다.
-      String fileName = ExportFileName.of(result.table().filePrefix(), result.date()).toFileName();
+      String fileName = ExportFileName.of(result.table().filePrefix(), result.date(), result.mode())
+        .toFileName();
       String fullPathStr = storage.resolve(fileName);
 
       // 4. 검증을 위해 Path 객체로 변환합니다.
@@ -100,14 +101,15 @@ class AnalyticsExportIntegrationTest {
 
     // When
     Map<ExportTable, ExportResult> results = assertDoesNotThrow(() ->
-      orchestrator.exportAllFailFastParallel(testDate)
+      orchestrator.exportAll(testDate)
     );
 
     // S3에 실제로 파일이 올라갔는지 storagePort(S3Storage)를 통해 확인
     assertThat(results).isNotEmpty();
 
     for (ExportResult result : results.values()) {
-      String fileName = ExportFileName.of(result.table().filePrefix(), result.date()).toFileName();
+      String fileName = ExportFileName.of(result.table().filePrefix(), result.date(), result.mode())
+        .toFileName();
       String s3Key = storage.resolve(fileName); // S3용 Key 경로 생성
 
       List<String> s3Files = storage.listBaseFiles();
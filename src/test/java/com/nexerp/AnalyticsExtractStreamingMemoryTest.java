@@ -0,0 +1,100 @@
+package com.nexerp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.IdRange;
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import com.nexerp.domain.analytics.infra.extractor.CursorQuery;
+import com.nexerp.domain.analytics.infra.extractor.ReplicaThrottle;
+import com.nexerp.domain.analytics.infra.extractor.inventory.InventoryExtractor;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
+import com.nexerp.domain.analytics.infra.writer.TypedCsvWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 커서 스트리밍 추출이 테이블 크기와 무관하게 일정한 힙만 사용하는지 검증 (DB 없이 H2 파일 DB 사용)
+ */
+class AnalyticsExtractStreamingMemoryTest {
+
+  private static final int ROWS = 2_000_000;
+  private static final int SAMPLE_EVERY = 200_000;
+  // 전체 결과를 메모리에 올리면 행당 100바이트만 잡아도 200MB 이상 증가
+  private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("대용량 테이블을 스트리밍 추출하는 동안 힙 사용량이 일정하게 유지된다")
+  void extract_large_table_with_constant_memory() {
+    // Given
+    JdbcDataSource dataSource = new JdbcDataSource();
+    // LAZY_QUERY_EXECUTION: H2 도 결과를 미리 만들지 않고 커서로 읽음
+    dataSource.setURL("jdbc:h2:file:" + tempDir.resolve("streaming")
+      + ";MODE=MySQL;LAZY_QUERY_EXECUTION=TRUE");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("""
+      CREATE TABLE inventory (
+        inventory_id BIGINT PRIMARY KEY, project_id BIGINT, inventory_created_at TIMESTAMP,
+        inventory_status VARCHAR(20), inventory_completed_at TIMESTAMP)
+      """);
+    jdbcTemplate.update("""
+      INSERT INTO inventory
+      SELECT X, MOD(X, 1000), TIMESTAMP '2026-01-05 09:00:00',
+             CASE MOD(X, 2) WHEN 0 THEN 'COMPLETED' ELSE 'IN_PROGRESS' END, NULL
+      FROM SYSTEM_RANGE(1, ?)
+      """, ROWS);
+
+    AnalyticsExportProperties props = new Binder(new MapConfigurationPropertySource(Map.of(
+      "analytics.export.extract.fetch-size", "500"
+    ))).bindOrCreate("analytics.export", AnalyticsExportProperties.class);
+    AnalyticsExportMetrics metrics = new AnalyticsExportMetrics(new SimpleMeterRegistry(),
+      ObservationRegistry.NOOP);
+    InventoryExtractor extractor = new InventoryExtractor(jdbcTemplate,
+      new CursorQuery(jdbcTemplate, props, metrics,
+        new ReplicaThrottle(ReplicaHealth::unknown, metrics, props)));
+
+    List<Long> heapSamples = new ArrayList<>();
+    heapSamples.add(usedHeapAfterGc());
+    AtomicLong seen = new AtomicLong();
+
+    // When
+    long rowCount = new TypedCsvWriter().write(OutputStream.nullOutputStream(),
+      extractor.columns(), LocalDate.of(2026, 1, 5),
+      extractor.extractRecords(IdRange.all()).peek(row -> {
+        if (seen.incrementAndGet() % SAMPLE_EVERY == 0) {
+          heapSamples.add(usedHeapAfterGc());
+        }
+      }));
+
+    // Then
+    assertThat(rowCount).isEqualTo(ROWS);
+    long baseline = heapSamples.get(0);
+    long peak = heapSamples.stream().mapToLong(Long::longValue).max().orElseThrow();
+    System.out.println("Heap samples(MB): " + heapSamples.stream()
+      .map(bytes -> bytes / (1024 * 1024)).toList());
+    assertThat(peak - baseline).isLessThan(MAX_HEAP_GROWTH_BYTES);
+  }
+
+  private static long usedHeapAfterGc() {
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,166 @@
+package com.nexerp.domain.analytics.infra.extractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nexerp.domain.analytics.config.AnalyticsExportProperties;
+import com.nexerp.domain.analytics.domain.ExportTable;
+import com.nexerp.domain.analytics.domain.ReplicaHealth;
+import com.nexerp.domain.analytics.infra.metrics.AnalyticsExportMetrics;
+import com.nexerp.domain.analytics.port.ReplicaHealthPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * 복제본 상태에 따른 추출 속도 조절 검증 (가짜 복제본, 속도는 throttle.rate 게이지로 확인)
+ * - check-interval-ms 0: awaitHealthy 를 부를 때마다 복제본을 확인
+ * - Pacer 는 ReplicaThrottle.ROWS_PER_ACQUIRE 행마다 토큰을 가져가며 복제본을 확인 (같은 패키지에서 참조)
+ */
+class ReplicaThrottleTest {
+
+  private static final ExportTable TABLE = ExportTable.INVENTORY;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final FakeReplica replica = new FakeReplica();
+
+  @Test
+  @DisplayName("복제 지연이 기준 이상이면 확인할 때마다 속도를 절반으로 줄이고 하한에서 멈춘다")
+  void halves_rate_down_to_min_floor_while_lagging() {
+    // Given
+    ReplicaThrottle throttle = throttle(Map.of(
+      "analytics.export.replica-guard.max-rows-per-second", "8000",
+      "analytics.export.replica-guard.min-rows-per-second", "1000"));
+    replica.lagSeconds = 10L;
+
+    // When
+    List<Long> rates = new ArrayList<>();
+    for (int check = 0; check < 5; check++) {
+      throttle.awaitHealthy(TABLE);
+      rates.add(rate());
+    }
+
+    // Then
+    assertThat(rates).containsExactly(4000L, 2000L, 1000L, 1000L, 1000L);
+  }
+
+  @Test
+  @DisplayName("복제본 부하(Threads_running)가 기준 이상이어도 속도를 줄이고, 회복하면 상한까지 두 배씩 늘린다")
+  void slows_down_when_busy_and_speeds_up_to_max_after_recovery() {
+    // Given
+    ReplicaThrottle throttle = throttle(Map.of(
+      "analytics.export.replica-guard.max-rows-per-second", "8000",
+      "analytics.export.replica-guard.min-rows-per-second", "1000",
+      "analytics.export.replica-guard.max-threads-running", "20"));
+    replica.threadsRunning = 25L;
+    for (int check = 0; check < 3; check++) {
+      throttle.awaitHealthy(TABLE);
+    }
+    assertThat(rate()).isEqualTo(1000L);
+
+    // When
+    replica.threadsRunning = 5L;
+    List<Long> rates = new ArrayList<>();
+    for (int check = 0; check < 4; check++) {
+      throttle.awaitHealthy(TABLE);
+      rates.add(rate());
+    }
+
+    // Then
+    assertThat(rates).containsExactly(2000L, 4000L, 8000L, 8000L);
+  }
+
+  @Test
+  @DisplayName("상한이 없으면 줄이기 전 처리량까지 회복한 뒤 제한을 해제한다")
+  void returns_to_unlimited_after_recovery() {
+    // Given
+    ReplicaThrottle throttle = throttle(Map.of(
+      "analytics.export.replica-guard.min-rows-per-second", "1"));
+    ReplicaThrottle.Pacer pacer = throttle.pacer(TABLE);
+    throttle.awaitHealthy(TABLE);
+    assertThat(rate()).isZero();
+
+    // When: 행을 읽는 중에 지연이 생기면 그때까지의 처리량을 기준으로 줄임
+    readRows(pacer, 2 * ReplicaThrottle.ROWS_PER_ACQUIRE);
+    replica.lagSeconds = 10L;
+    readRows(pacer, ReplicaThrottle.ROWS_PER_ACQUIRE);
+    long throttled = rate();
+    replica.lagSeconds = 0L;
+    throttle.awaitHealthy(TABLE);
+
+    // Then
+    assertThat(throttled).isPositive();
+    assertThat(rate()).isZero();
+  }
+
+  @Test
+  @DisplayName("지연이 멈춤 기준 이상이면 지연이 속도 조절 기준 아래로 내려올 때까지 기다린다")
+  void pauses_until_lag_drops_below_throttle_threshold() throws Exception {
+    // Given
+    ReplicaThrottle throttle = throttle(Map.of(
+      "analytics.export.replica-guard.check-interval-ms", "10"));
+    replica.lagSeconds = 40L;
+
+    // When
+    CompletableFuture<Void> waiting = CompletableFuture.runAsync(
+      () -> throttle.awaitHealthy(TABLE));
+    Thread.sleep(200);
+    boolean doneWhilePaused = waiting.isDone();
+    // 멈춤 기준 아래지만 속도 조절 기준 이상이면 계속 멈춤
+    replica.lagSeconds = 10L;
+    Thread.sleep(200);
+    boolean doneWhileLagging = waiting.isDone();
+    replica.lagSeconds = 1L;
+    waiting.get(5, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(doneWhilePaused).isFalse();
+    assertThat(doneWhileLagging).isFalse();
+    assertThat(registry.get("analytics.replica.throttle")
+      .tag("table", TABLE.filePrefix())
+      .tag("reason", "lag_pause")
+      .timer().count()).isEqualTo(1);
+  }
+
+  private ReplicaThrottle throttle(Map<String, String> properties) {
+    Map<String, String> merged = new HashMap<>();
+    merged.put("analytics.export.replica-guard.check-interval-ms", "0");
+    merged.put("analytics.export.replica-guard.lag-throttle-seconds", "5");
+    merged.put("analytics.export.replica-guard.lag-pause-seconds", "30");
+    merged.putAll(properties);
+    AnalyticsExportProperties props = new Binder(new MapConfigurationPropertySource(merged))
+      .bindOrCreate("analytics.export", AnalyticsExportProperties.class);
+    AnalyticsExportMetrics metrics = new AnalyticsExportMetrics(registry,
+      ObservationRegistry.NOOP);
+    return new ReplicaThrottle(replica, metrics, props);
+  }
+
+  private long rate() {
+    return (long) registry.get("analytics.replica.throttle.rate").gauge().value();
+  }
+
+  private static void readRows(ReplicaThrottle.Pacer pacer, int rows) {
+    for (int row = 0; row < rows; row++) {
+      pacer.onRow();
+    }
+  }
+
+  private static class FakeReplica implements ReplicaHealthPort {
+
+    private volatile Long lagSeconds = 0L;
+    private volatile Long threadsRunning = 0L;
+
+    @Override
+    public ReplicaHealth probe() {
+      return new ReplicaHealth(lagSeconds, threadsRunning);
+    }
+  }
+}